@@ -0,0 +1,108 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.IntList;
+import io.github.quicksilver0218.listutil.ListUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Checks the bytes each <b>ListUtil</b> method allocates per call on an <b>ArrayList</b> against its budget, and exits with status <b>1</b> if any method goes over.
+ * Searches and traversals must not allocate at all. Methods returning a new list may allocate that list, presized, and <b>SLACK</b> bytes of small objects; views over an immutable list only the latter.
+ * Filters may also allocate the bitmap marking the elements that pass, so that the list they return is allocated once at its exact size.
+ * <p>
+ * Allocations are read from the thread allocation counter of <b>com.sun.management.ThreadMXBean</b>, averaged over <b>CALLS</b> calls after <b>WARMUP</b> calls, so that the methods are measured as compiled.
+ * The budgets of new lists are calibrated by measuring <b>new ArrayList&lt;&gt;(n)</b> in the same way, which accounts for the object layout of the running JVM.
+ * It runs in the <b>verify</b> phase of the build, which fails if any method goes over, and can be run on its own with:
+ * <pre>java -cp benchmarks/target/benchmarks.jar io.github.quicksilver0218.listutil.benchmark.AllocationBudget</pre>
+ */
+public final class AllocationBudget {
+    private static final int SIZE = 10000;
+    private static final int WARMUP = 20000;
+    private static final int CALLS = 2000;
+    private static final long SLACK = 64;
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile Object sink;
+
+    private AllocationBudget() {
+    }
+
+    @SuppressWarnings("deprecation")
+    public static void main(String[] args) {
+        List<Integer> list = ListKind.ARRAY_LIST.create(ListKind.sequence(SIZE));
+        List<Integer> immutable = List.copyOf(list);
+        IntList ints = IntList.of(ListKind.sequence(SIZE).stream().mapToInt(Integer::intValue).toArray());
+        Integer[] items = {1, 2, 3};
+        Integer missing = -1;
+        long overhead = measure(() -> null);
+        long kept = measure(() -> new BitSet(SIZE)) - overhead;
+
+        List<Object[]> budgets = new ArrayList<>();
+        budgets.add(new Object[] {"every", (Supplier<Object>) () -> ListUtil.every(list, (element, index, l) -> element >= 0), 0L});
+        budgets.add(new Object[] {"some", (Supplier<Object>) () -> ListUtil.some(list, (element, index, l) -> element < 0), 0L});
+        budgets.add(new Object[] {"find", (Supplier<Object>) () -> ListUtil.find(list, (element, index, l) -> element < 0), 0L});
+        budgets.add(new Object[] {"findIndex", (Supplier<Object>) () -> ListUtil.findIndex(list, (element, index, l) -> element < 0), 0L});
+        budgets.add(new Object[] {"findLast", (Supplier<Object>) () -> ListUtil.findLast(list, (element, index, l) -> element < 0), 0L});
+        budgets.add(new Object[] {"findLastIndex", (Supplier<Object>) () -> ListUtil.findLastIndex(list, (element, index, l) -> element < 0), 0L});
+        budgets.add(new Object[] {"includes", (Supplier<Object>) () -> ListUtil.includes(list, missing, 0), 0L});
+        budgets.add(new Object[] {"indexOf", (Supplier<Object>) () -> ListUtil.indexOf(list, missing, 0), 0L});
+        budgets.add(new Object[] {"lastIndexOf", (Supplier<Object>) () -> ListUtil.lastIndexOf(list, missing, SIZE - 1), 0L});
+        budgets.add(new Object[] {"forEach", (Supplier<Object>) () -> {
+            ListUtil.forEach(list, (element, index, l) -> {
+            });
+            return null;
+        }, 0L});
+        budgets.add(new Object[] {"reduce", (Supplier<Object>) () -> ListUtil.reduce(list, (accumulator, element, index, l) -> element, missing), 0L});
+        budgets.add(new Object[] {"reduceRight", (Supplier<Object>) () -> ListUtil.reduceRight(list, (accumulator, element, index, l) -> element, missing), 0L});
+        budgets.add(new Object[] {"at", (Supplier<Object>) () -> ListUtil.at(list, -1), 0L});
+        budgets.add(new Object[] {"map", (Supplier<Object>) () -> ListUtil.map(list, (element, index, l) -> element), presized(SIZE, overhead) + SLACK});
+        budgets.add(new Object[] {"filter", (Supplier<Object>) () -> ListUtil.filter(list, (element, index, l) -> (element & 1) == 0), presized(SIZE / 2, overhead) + kept + SLACK});
+        budgets.add(new Object[] {"filter (sparse)", (Supplier<Object>) () -> ListUtil.filter(list, (element, index, l) -> element == 0), presized(1, overhead) + kept + SLACK});
+        budgets.add(new Object[] {"filter (IntList)", (Supplier<Object>) () -> ListUtil.filter(ints, (element, index, l) -> (element & 1) == 0), measure(() -> new IntList(SIZE / 2)) - overhead + kept + SLACK});
+        budgets.add(new Object[] {"concat (lists)", (Supplier<Object>) () -> ListUtil.concat(list, list), presized(2 * SIZE, overhead) + SLACK});
+        budgets.add(new Object[] {"concat (items)", (Supplier<Object>) () -> ListUtil.concat(list, items), presized(SIZE + items.length, overhead) + SLACK});
+        budgets.add(new Object[] {"from", (Supplier<Object>) () -> ListUtil.from(list.spliterator(), (element, index, l) -> element), presized(SIZE, overhead) + SLACK});
+        budgets.add(new Object[] {"slice", (Supplier<Object>) () -> ListUtil.slice(list), presized(SIZE, overhead) + SLACK});
+        budgets.add(new Object[] {"slice (range)", (Supplier<Object>) () -> ListUtil.slice(list, 1, SIZE - 1), SLACK});
+        budgets.add(new Object[] {"toReversed", (Supplier<Object>) () -> ListUtil.toReversed(list), presized(SIZE, overhead) + SLACK});
+        budgets.add(new Object[] {"toReversed (view)", (Supplier<Object>) () -> ListUtil.toReversed(immutable), SLACK});
+        budgets.add(new Object[] {"with", (Supplier<Object>) () -> ListUtil.with(list, 0, missing), presized(SIZE, overhead) + SLACK});
+        budgets.add(new Object[] {"with (view)", (Supplier<Object>) () -> ListUtil.with(immutable, 0, missing), SLACK});
+
+        boolean over = false;
+        System.out.printf("%-20s %14s %14s%n", "method", "bytes/call", "budget");
+        for (Object[] budget : budgets) {
+            @SuppressWarnings("unchecked")
+            long bytes = measure((Supplier<Object>) budget[1]) - overhead;
+            long limit = (Long) budget[2];
+            System.out.printf("%-20s %14d %14d%s%n", budget[0], bytes, limit, bytes > limit ? "  OVER" : "");
+            over |= bytes > limit;
+        }
+        if (over)
+            System.exit(1);
+    }
+
+    /**
+     * Returns the bytes allocated by a new <b>ArrayList</b> with capacity for <b>size</b> elements.
+     */
+    private static long presized(int size, long overhead) {
+        return measure(() -> new ArrayList<>(size)) - overhead;
+    }
+
+    /**
+     * Returns the bytes allocated per call of <b>call</b>, averaged and rounded down.
+     */
+    private static long measure(Supplier<Object> call) {
+        for (int i = 0; i < WARMUP; i++)
+            sink = call.get();
+        long thread = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < CALLS; i++)
+            sink = call.get();
+        return (THREADS.getThreadAllocatedBytes(thread) - before) / CALLS;
+    }
+}
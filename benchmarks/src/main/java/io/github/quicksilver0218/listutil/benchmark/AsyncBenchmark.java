@@ -0,0 +1,47 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sequential and asynchronous mapping with a callback blocking for 100 µs, standing in for I/O.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AsyncBenchmark {
+    @Param({"1000"})
+    public int size;
+
+    @Param({"16", "256"})
+    public int concurrency;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.sequence(size);
+    }
+
+    private static Integer blocking(Integer element) {
+        LockSupport.parkNanos(100_000);
+        return element;
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return ListUtil.map(list, (element, index, list) -> blocking(element));
+    }
+
+    @Benchmark
+    public List<Integer> mapAsync() {
+        return ListUtil.mapAsync(list, (element, index, list) -> blocking(element), concurrency).join();
+    }
+}
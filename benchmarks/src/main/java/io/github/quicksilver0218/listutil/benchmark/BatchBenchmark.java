@@ -0,0 +1,63 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-element and batched callbacks feeding a sink with a fixed cost per call, standing in for a downstream that prefers batches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+    private static final long CALL_COST = 200;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"64", "1024"})
+    public int batchSize;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.sequence(size);
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        ListUtil.forEach(list, (element, index, list) -> {
+            Blackhole.consumeCPU(CALL_COST);
+            blackhole.consume(element);
+        });
+    }
+
+    @Benchmark
+    public void forEachBatch(Blackhole blackhole) {
+        ListUtil.forEachBatch(list, (batch, startIndex, list) -> {
+            Blackhole.consumeCPU(CALL_COST);
+            for (int i = 0; i < batch.size(); i++)
+                blackhole.consume(batch.get(i));
+        }, batchSize);
+    }
+
+    @Benchmark
+    public List<Integer> mapBatched() {
+        return ListUtil.mapBatched(list, (batch, startIndex, list) -> {
+            Blackhole.consumeCPU(CALL_COST);
+            List<Integer> result = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++)
+                result.add(batch.get(i) + 1);
+            return result;
+        }, batchSize);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of <b>benchmarks.jar</b>.
+ * Accepts the usual JMH command line, and in addition always attaches the GC profiler and writes the results as JSON to <b>jmh-result.json</b> unless <b>-rf</b>/<b>-rff</b> say otherwise.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        builder.addProfiler(GCProfiler.class);
+        if (!commandLine.getResultFormat().hasValue())
+            builder.resultFormat(ResultFormatType.JSON);
+        if (!commandLine.getResult().hasValue())
+            builder.result("jmh-result.json");
+        new Runner(builder.build()).run();
+    }
+}
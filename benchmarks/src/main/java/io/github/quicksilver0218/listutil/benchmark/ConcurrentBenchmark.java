@@ -0,0 +1,49 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ConcurrentList;
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readers traversing a list while writers push and pop, on the two lists whose <b>ListUtil</b> traversals are consistent under concurrent writes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ConcurrentBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"CONCURRENT_LIST", "COPY_ON_WRITE_ARRAY_LIST"})
+    public String kind;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        List<Integer> elements = ListKind.sequence(size);
+        list = kind.equals("CONCURRENT_LIST") ? new ConcurrentList<>(elements) : new CopyOnWriteArrayList<>(elements);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Integer reduce() {
+        return ListUtil.reduce(list, (accumulator, element, index, list) -> accumulator + element, 0);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Integer pushPop() {
+        ListUtil.push(list, 1);
+        return ListUtil.pop(list);
+    }
+}
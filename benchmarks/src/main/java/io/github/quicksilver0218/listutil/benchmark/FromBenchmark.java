@@ -0,0 +1,61 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a mapped list from an iterator, a spliterator and a stream, against copying the source into a list and mapping the copy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class FromBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+    }
+
+    @Benchmark
+    public List<Integer> copyThenMap() {
+        List<Integer> copy = new ArrayList<>();
+        list.iterator().forEachRemaining(copy::add);
+        return ListUtil.map(copy, (element, index, l) -> element + 1);
+    }
+
+    @Benchmark
+    public List<Integer> fromIterator() {
+        return ListUtil.from(list.iterator(), (element, index, l) -> element + 1);
+    }
+
+    @Benchmark
+    public List<Integer> fromSpliterator() {
+        return ListUtil.from(list.spliterator(), (element, index, l) -> element + 1);
+    }
+
+    @Benchmark
+    public List<Integer> fromStream() {
+        return ListUtil.from(list.stream(), (element, index, l) -> element + 1);
+    }
+
+    @Benchmark
+    public List<Integer> fromParallelStream() {
+        return ListUtil.from(list.parallelStream(), (element, index, l) -> element + 1);
+    }
+
+    @Benchmark
+    public List<Integer> parallelFrom() {
+        return ListUtil.parallelFrom(list.spliterator(), (element, index, l) -> element + 1);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.IntGroups;
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting a list into buckets, by one <b>filter()</b> per key and by a single grouping pass.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class GroupBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"8"})
+    public int keys;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.shuffled(size);
+    }
+
+    @Benchmark
+    public List<List<Integer>> filterPerKey() {
+        List<List<Integer>> buckets = new ArrayList<>(keys);
+        for (int key = 0; key < keys; key++) {
+            int k = key;
+            buckets.add(ListUtil.filter(list, (element, index, l) -> element % keys == k));
+        }
+        return buckets;
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy() {
+        return ListUtil.groupBy(list, (element, index, l) -> element % keys);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> parallelGroupBy() {
+        return ListUtil.parallelGroupBy(list, (element, index, l) -> element % keys);
+    }
+
+    @Benchmark
+    public IntGroups<Integer> groupByInt() {
+        return ListUtil.groupByInt(list, (element, index, l) -> element % keys);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> partition() {
+        return ListUtil.partition(list, (element, index, l) -> (element & 1) == 0);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> parallelPartition() {
+        return ListUtil.parallelPartition(list, (element, index, l) -> (element & 1) == 0);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Methods that modify the list they are called upon without changing its size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class InPlaceBenchmark {
+    @Param({"ARRAY_LIST", "LINKED_LIST", "COPY_ON_WRITE_ARRAY_LIST", "ARRAYS_AS_LIST", "VECTOR", "GAP_BUFFER_LIST", "RING_BUFFER_LIST"})
+    public ListKind kind;
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private Integer item;
+
+    @Setup
+    public void setup() {
+        list = kind.create(ListKind.sequence(size));
+        item = 7;
+    }
+
+    @Benchmark
+    public List<Integer> copyWithin() {
+        return ListUtil.copyWithin(list, size / 2);
+    }
+
+    @Benchmark
+    public List<Integer> copyWithinStart() {
+        return ListUtil.copyWithin(list, 0, size / 2);
+    }
+
+    @Benchmark
+    public List<Integer> copyWithinStartEnd() {
+        return ListUtil.copyWithin(list, size / 4, 0, size / 2);
+    }
+
+    @Benchmark
+    public List<Integer> fill() {
+        return ListUtil.fill(list, item);
+    }
+
+    @Benchmark
+    public List<Integer> fillStart() {
+        return ListUtil.fill(list, item, size / 2);
+    }
+
+    @Benchmark
+    public List<Integer> fillStartEnd() {
+        return ListUtil.fill(list, item, size / 4, -size / 4);
+    }
+
+    @Benchmark
+    public List<Integer> reverse() {
+        return ListUtil.reverse(list);
+    }
+
+    /**
+     * Sorting needs unsorted input on every invocation, so it keeps its own list.
+     */
+    @State(Scope.Thread)
+    public static class SortState {
+        private List<Integer> source;
+        List<Integer> list;
+
+        @Setup(Level.Trial)
+        public void setup(InPlaceBenchmark benchmark) {
+            source = ListKind.shuffled(benchmark.size);
+            list = benchmark.kind.create(source);
+        }
+
+        @Setup(Level.Invocation)
+        public void reset(InPlaceBenchmark benchmark) {
+            benchmark.kind.refill(list, source);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> sort(SortState state) {
+        return ListUtil.sort(state.list);
+    }
+
+    @Benchmark
+    public List<Integer> sortComparator(SortState state) {
+        return ListUtil.sort(state.list, Integer::compare);
+    }
+}
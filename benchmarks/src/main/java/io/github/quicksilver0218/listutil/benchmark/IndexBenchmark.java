@@ -0,0 +1,71 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.IndexedList;
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated lookups against the same list, by linear scan and through <b>ListUtil.index()</b>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private IndexedList<Integer> indexed;
+    private Integer item;
+
+    @Setup
+    public void setup() {
+        list = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+        indexed = ListUtil.index(ListKind.ARRAY_LIST.create(ListKind.sequence(size)));
+        item = size * 3 / 4;
+        indexed.indexOf(item);
+    }
+
+    @Benchmark
+    public int scanIndexOf() {
+        return ListUtil.indexOf(list, item, size / 2);
+    }
+
+    @Benchmark
+    public int indexedIndexOf() {
+        return ListUtil.indexOf(indexed, item, size / 2);
+    }
+
+    @Benchmark
+    public int scanLastIndexOf() {
+        return ListUtil.lastIndexOf(list, item, size / 4);
+    }
+
+    @Benchmark
+    public int indexedLastIndexOf() {
+        return ListUtil.lastIndexOf(indexed, item, size / 4);
+    }
+
+    @Benchmark
+    public boolean scanIncludes() {
+        return ListUtil.includes(list, item, -size / 2);
+    }
+
+    @Benchmark
+    public boolean indexedIncludes() {
+        return ListUtil.includes(indexed, item, -size / 2);
+    }
+
+    @Benchmark
+    public int indexedPushPop() {
+        ListUtil.push(indexed, item);
+        ListUtil.pop(indexed);
+        return ListUtil.indexOf(indexed, item, 0);
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.Instrumentation;
+import io.github.quicksilver0218.listutil.ListUtil;
+import io.github.quicksilver0218.listutil.MetricsRecorder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the instrumentation, disabled and recording into a <b>MetricsRecorder</b>, on methods with cheap callbacks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+    @Param({"100", "100000"})
+    public int size;
+
+    @Param({"DISABLED", "METRICS"})
+    public String listener;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+        Instrumentation.setListener(listener.equals("METRICS") ? new MetricsRecorder() : null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Instrumentation.setListener(null);
+    }
+
+    @Benchmark
+    public Integer reduce() {
+        return ListUtil.reduce(list, (accumulator, element, index, list) -> accumulator + element, 0);
+    }
+
+    @Benchmark
+    public int findIndex() {
+        return ListUtil.findIndex(list, (element, index, list) -> element < 0);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ListUtil.indexOf(list, -1, 0);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Joining a list of string ids in memory, to a <b>Writer</b> and to a channel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class JoinBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private List<String> ids;
+    private Writer writer;
+    private WritableByteChannel channel;
+
+    @Setup
+    public void setup() {
+        ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            ids.add("id-" + i);
+        writer = Writer.nullWriter();
+        channel = Channels.newChannel(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String join() {
+        return ListUtil.join(ids, ",");
+    }
+
+    @Benchmark
+    public Writer joinToWriter() throws IOException {
+        return ListUtil.join(ids, ",", writer);
+    }
+
+    @Benchmark
+    public long joinToChannel() throws IOException {
+        return ListUtil.join(ids, ",", channel, StandardCharsets.UTF_8);
+    }
+}
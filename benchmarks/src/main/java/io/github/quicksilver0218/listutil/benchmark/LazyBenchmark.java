@@ -0,0 +1,61 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A filter, map, slice and find chain built from the eager methods against the same chain as a lazy pipeline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LazyBenchmark {
+    @Param({"ARRAY_LIST", "LINKED_LIST"})
+    public ListKind kind;
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = kind.create(ListKind.sequence(size));
+    }
+
+    @Benchmark
+    public Integer eager() {
+        List<Integer> filtered = ListUtil.filter(list, (element, index, list) -> element % 3 == 0);
+        List<Integer> mapped = ListUtil.map(filtered, (element, index, list) -> element * 2);
+        return ListUtil.find(ListUtil.slice(mapped, 0, 10), (element, index, list) -> element % 4 == 0);
+    }
+
+    @Benchmark
+    public Integer lazy() {
+        return ListUtil.lazy(list)
+                .filter((element, index, list) -> element % 3 == 0)
+                .map((element, index, list) -> element * 2)
+                .slice(0, 10)
+                .find((element, index, list) -> element % 4 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> eagerToList() {
+        List<Integer> filtered = ListUtil.filter(list, (element, index, list) -> element % 3 == 0);
+        return ListUtil.map(filtered, (element, index, list) -> element * 2);
+    }
+
+    @Benchmark
+    public List<Integer> lazyToList() {
+        return ListUtil.lazy(list)
+                .filter((element, index, list) -> element % 3 == 0)
+                .map((element, index, list) -> element * 2)
+                .toList();
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.GapBufferList;
+import io.github.quicksilver0218.listutil.RingBufferList;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The list implementations the benchmarks are run against.
+ */
+public enum ListKind {
+    ARRAY_LIST {
+        @Override
+        public List<Integer> create(List<Integer> source) {
+            return new ArrayList<>(source);
+        }
+    },
+    LINKED_LIST {
+        @Override
+        public List<Integer> create(List<Integer> source) {
+            return new LinkedList<>(source);
+        }
+    },
+    COPY_ON_WRITE_ARRAY_LIST {
+        @Override
+        public List<Integer> create(List<Integer> source) {
+            return new CopyOnWriteArrayList<>(source);
+        }
+    },
+    VECTOR {
+        @Override
+        public List<Integer> create(List<Integer> source) {
+            return new Vector<>(source);
+        }
+    },
+    GAP_BUFFER_LIST {
+        @Override
+        public List<Integer> create(List<Integer> source) {
+            return new GapBufferList<>(source);
+        }
+    },
+    RING_BUFFER_LIST {
+        @Override
+        public List<Integer> create(List<Integer> source) {
+            return new RingBufferList<>(source);
+        }
+    },
+    ARRAYS_AS_LIST {
+        @Override
+        public List<Integer> create(List<Integer> source) {
+            return Arrays.asList(source.toArray(new Integer[0]));
+        }
+
+        @Override
+        public void refill(List<Integer> list, List<Integer> source) {
+            ListIterator<Integer> iterator = list.listIterator();
+            for (Integer element : source) {
+                iterator.next();
+                iterator.set(element);
+            }
+        }
+    };
+
+    /**
+     * @param source Elements of the new list.
+     * @return A new list of this kind holding the elements of <b>source</b>.
+     */
+    public abstract List<Integer> create(List<Integer> source);
+
+    /**
+     * Restores the content of a list created by this kind in linear time.
+     * @param list List to be modified.
+     * @param source Elements to restore, of the same size as <b>list</b>.
+     */
+    public void refill(List<Integer> list, List<Integer> source) {
+        list.clear();
+        list.addAll(source);
+    }
+
+    /**
+     * @param size Size of the list.
+     * @return The integers from <b>0</b> to <b>size - 1</b> in ascending order.
+     */
+    public static List<Integer> sequence(int size) {
+        List<Integer> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            result.add(i);
+        return result;
+    }
+
+    /**
+     * @param size Size of the list.
+     * @return The integers from <b>0</b> to <b>size - 1</b> in a fixed pseudo-random order.
+     */
+    public static List<Integer> shuffled(int size) {
+        List<Integer> result = sequence(size);
+        Collections.shuffle(result, new Random(42));
+        return result;
+    }
+}
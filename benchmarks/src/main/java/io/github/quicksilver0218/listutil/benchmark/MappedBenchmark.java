@@ -0,0 +1,58 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import io.github.quicksilver0218.listutil.MappedList;
+import io.github.quicksilver0218.listutil.RecordCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only methods over a memory-mapped list of longs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class MappedBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private Path path;
+    private MappedList<Long> list;
+
+    @Setup
+    public void setup() throws IOException {
+        path = Files.createTempFile("list-util-", ".bin");
+        list = MappedList.open(path, RecordCodec.LONG);
+        for (long i = 0; i < size; i++)
+            list.add(i);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        list.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public List<Long> filter() {
+        return ListUtil.filter(list, (element, index, list) -> element % 1000 == 0);
+    }
+
+    @Benchmark
+    public Long reduce() {
+        return ListUtil.reduce(list, (accumulator, element, index, list) -> accumulator + element, 0L);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ListUtil.indexOf(list, -1L, 0);
+    }
+}
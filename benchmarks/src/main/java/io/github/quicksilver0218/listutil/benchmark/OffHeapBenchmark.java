@@ -0,0 +1,66 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import io.github.quicksilver0218.listutil.OffHeapList;
+import io.github.quicksilver0218.listutil.RecordCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk in-place methods on an off-heap list of longs, against the same methods on an <b>ArrayList</b> of boxed longs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class OffHeapBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"OFF_HEAP", "ARRAY_LIST"})
+    public String kind;
+
+    private List<Long> list;
+
+    @Setup
+    public void setup() {
+        list = kind.equals("OFF_HEAP") ? new OffHeapList<>(RecordCodec.LONG, size) : new ArrayList<>(size);
+        for (long i = 0; i < size; i++)
+            list.add(i);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (list instanceof OffHeapList)
+            ((OffHeapList<Long>) list).close();
+    }
+
+    @Benchmark
+    public List<Long> fill() {
+        return ListUtil.fill(list, 42L, 0, size);
+    }
+
+    @Benchmark
+    public List<Long> reverse() {
+        return ListUtil.reverse(list);
+    }
+
+    @Benchmark
+    public List<Long> copyWithin() {
+        return ListUtil.copyWithin(list, 1, 0, size - 1);
+    }
+
+    @Benchmark
+    public int concat() {
+        List<Long> result = ListUtil.concat(list, list);
+        int size = result.size();
+        if (result instanceof OffHeapList)
+            ((OffHeapList<Long>) result).close();
+        return size;
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The parallel methods against their sequential counterparts with a CPU-heavy callback.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+    @Param({"ARRAY_LIST", "LINKED_LIST"})
+    public ListKind kind;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"100"})
+    public int work;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = kind.create(ListKind.sequence(size));
+    }
+
+    private int burn(int element) {
+        Blackhole.consumeCPU(work);
+        return element;
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return ListUtil.map(list, (element, index, list) -> burn(element));
+    }
+
+    @Benchmark
+    public List<Integer> parallelMap() {
+        return ListUtil.parallelMap(list, (element, index, list) -> burn(element));
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return ListUtil.filter(list, (element, index, list) -> (burn(element) & 1) == 0);
+    }
+
+    @Benchmark
+    public List<Integer> parallelFilter() {
+        return ListUtil.parallelFilter(list, (element, index, list) -> (burn(element) & 1) == 0);
+    }
+
+    @Benchmark
+    public Long reduce() {
+        return ListUtil.reduce(list, (accumulator, element, index, list) -> accumulator + burn(element), 0L);
+    }
+
+    @Benchmark
+    public Long parallelReduce() {
+        return ListUtil.parallelReduce(list, (accumulator, element, index, list) -> accumulator + burn(element), 0L, Long::sum);
+    }
+
+    @Benchmark
+    public boolean every() {
+        return ListUtil.every(list, (element, index, list) -> burn(element) >= 0);
+    }
+
+    @Benchmark
+    public boolean parallelEvery() {
+        return ListUtil.parallelEvery(list, (element, index, list) -> burn(element) >= 0);
+    }
+
+    @Benchmark
+    public boolean some() {
+        return ListUtil.some(list, (element, index, list) -> burn(element) < 0);
+    }
+
+    @Benchmark
+    public boolean parallelSome() {
+        return ListUtil.parallelSome(list, (element, index, list) -> burn(element) < 0);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import io.github.quicksilver0218.listutil.PersistentVector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The non-mutating methods over an <b>ArrayList</b>, which they copy, and over a <b>PersistentVector</b>, or an immutable list they return a view of.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PersistentBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private List<Integer> immutable;
+    private PersistentVector<Integer> vector;
+    private Integer item;
+
+    @Setup
+    public void setup() {
+        list = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+        immutable = List.copyOf(list);
+        vector = PersistentVector.of(list);
+        item = 7;
+    }
+
+    @Benchmark
+    public List<Integer> listConcat() {
+        return ListUtil.concat(list, list);
+    }
+
+    @Benchmark
+    public List<Integer> vectorConcat() {
+        return ListUtil.concat(vector, vector);
+    }
+
+    @Benchmark
+    public List<Integer> vectorSlice() {
+        return ListUtil.slice(vector, size / 4, -size / 4);
+    }
+
+    @Benchmark
+    public List<Integer> listCopySplice() {
+        List<Integer> copy = new ArrayList<>(list);
+        ListUtil.splice(copy, size / 2, 1, item, item);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> listToSpliced() {
+        return ListUtil.toSpliced(list, size / 2, 1, item, item);
+    }
+
+    @Benchmark
+    public List<Integer> immutableToSpliced() {
+        return ListUtil.toSpliced(immutable, size / 2, 1, item, item);
+    }
+
+    @Benchmark
+    public List<Integer> vectorToSpliced() {
+        return ListUtil.toSpliced(vector, size / 2, 1, item, item);
+    }
+
+    @Benchmark
+    public List<Integer> listWith() {
+        return ListUtil.with(list, size / 2, item);
+    }
+
+    @Benchmark
+    public List<Integer> immutableWith() {
+        return ListUtil.with(immutable, size / 2, item);
+    }
+
+    @Benchmark
+    public List<Integer> vectorWith() {
+        return ListUtil.with(vector, size / 2, item);
+    }
+
+    @Benchmark
+    public List<Integer> immutableToReversedMaterialized() {
+        return ListUtil.materialize(ListUtil.toReversed(immutable));
+    }
+
+    @Benchmark
+    public long vectorIterate() {
+        long sum = 0;
+        for (Integer element : vector)
+            sum += element;
+        return sum;
+    }
+}
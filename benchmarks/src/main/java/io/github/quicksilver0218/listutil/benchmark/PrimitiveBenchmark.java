@@ -0,0 +1,83 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.IntList;
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The <b>IntList</b> overloads against the same operations over a boxed <b>ArrayList</b>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PrimitiveBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> boxed;
+    private IntList primitive;
+
+    @Setup
+    public void setup() {
+        boxed = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+        primitive = new IntList(size);
+        for (int i = 0; i < size; i++)
+            primitive.add(i);
+    }
+
+    @Benchmark
+    public List<Integer> boxedMap() {
+        return ListUtil.map(boxed, (element, index, list) -> element * 2);
+    }
+
+    @Benchmark
+    public IntList primitiveMap() {
+        return ListUtil.map(primitive, (element, index, list) -> element * 2);
+    }
+
+    @Benchmark
+    public List<Integer> boxedFilter() {
+        return ListUtil.filter(boxed, (element, index, list) -> (element & 1) == 0);
+    }
+
+    @Benchmark
+    public IntList primitiveFilter() {
+        return ListUtil.filter(primitive, (element, index, list) -> (element & 1) == 0);
+    }
+
+    @Benchmark
+    public Integer boxedReduce() {
+        return ListUtil.reduce(boxed, (accumulator, element, index, list) -> accumulator + element, 0);
+    }
+
+    @Benchmark
+    public int primitiveReduce() {
+        return ListUtil.reduce(primitive, (accumulator, element, index, list) -> accumulator + element, 0);
+    }
+
+    @Benchmark
+    public int boxedIndexOf() {
+        return ListUtil.indexOf(boxed, -1, 0);
+    }
+
+    @Benchmark
+    public int primitiveIndexOf() {
+        return ListUtil.indexOf(primitive, -1, 0);
+    }
+
+    @Benchmark
+    public String boxedJoin() {
+        return ListUtil.join(boxed);
+    }
+
+    @Benchmark
+    public String primitiveJoin() {
+        return ListUtil.join(primitive);
+    }
+}
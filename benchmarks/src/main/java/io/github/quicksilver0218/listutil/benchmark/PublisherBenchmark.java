@@ -0,0 +1,51 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListSubscriber;
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A filter and map pipeline collected directly against the same pipeline published to a buffering subscriber.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PublisherBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"1", "256"})
+    public int bufferSize;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+    }
+
+    @Benchmark
+    public List<Integer> toList() {
+        return ListUtil.lazy(list)
+                .filter((element, index, list) -> element % 3 == 0)
+                .map((element, index, list) -> element * 2)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Integer> subscribe() {
+        ListSubscriber<Integer> subscriber = new ListSubscriber<>(bufferSize);
+        ListUtil.lazy(list)
+                .filter((element, index, list) -> element % 3 == 0)
+                .map((element, index, list) -> element * 2)
+                .toPublisher()
+                .subscribe(subscriber);
+        return subscriber.getResult().join();
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Methods that do not modify the list they are called upon.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+@SuppressWarnings("deprecation")
+public class ReadBenchmark {
+    @Param({"ARRAY_LIST", "LINKED_LIST", "COPY_ON_WRITE_ARRAY_LIST", "ARRAYS_AS_LIST"})
+    public ListKind kind;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private List<Integer> other;
+    private Integer missing;
+    private Integer middle;
+
+    @Setup
+    public void setup() {
+        list = kind.create(ListKind.sequence(size));
+        other = kind.create(ListKind.sequence(10));
+        missing = -1;
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public List<Integer> concatLists() {
+        return ListUtil.concat(list, other);
+    }
+
+    @Benchmark
+    public List<Integer> concatItems() {
+        return ListUtil.concat(list, 1, 2, 3);
+    }
+
+    @Benchmark
+    public boolean every() {
+        return ListUtil.every(list, (element, index, list) -> element >= 0);
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return ListUtil.filter(list, (element, index, list) -> (element & 1) == 0);
+    }
+
+    @Benchmark
+    public Integer find() {
+        return ListUtil.find(list, (element, index, list) -> element < 0);
+    }
+
+    @Benchmark
+    public int findIndex() {
+        return ListUtil.findIndex(list, (element, index, list) -> element < 0);
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        ListUtil.forEach(list, (element, index, list) -> blackhole.consume(element));
+    }
+
+    @Benchmark
+    public List<Integer> from() {
+        return ListUtil.from(list);
+    }
+
+    @Benchmark
+    public boolean includes() {
+        return ListUtil.includes(list, missing);
+    }
+
+    @Benchmark
+    public boolean includesFromIndex() {
+        return ListUtil.includes(list, missing, -size / 2);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ListUtil.indexOf(list, missing);
+    }
+
+    @Benchmark
+    public int indexOfFromIndex() {
+        return ListUtil.indexOf(list, missing, -size / 2);
+    }
+
+    @Benchmark
+    public String join() {
+        return ListUtil.join(list);
+    }
+
+    @Benchmark
+    public String joinSeparator() {
+        return ListUtil.join(list, ", ");
+    }
+
+    @Benchmark
+    public int lastIndexOf() {
+        return ListUtil.lastIndexOf(list, missing);
+    }
+
+    @Benchmark
+    public int lastIndexOfFromIndex() {
+        return ListUtil.lastIndexOf(list, missing, middle);
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return ListUtil.map(list, (element, index, list) -> element + index);
+    }
+
+    @Benchmark
+    public List<Integer> of() {
+        return ListUtil.of(1, 2, 3, 4);
+    }
+
+    @Benchmark
+    public Integer reduce() {
+        return ListUtil.reduce(list, (accumulator, element, index, list) -> accumulator + element);
+    }
+
+    @Benchmark
+    public Long reduceInitialValue() {
+        return ListUtil.reduce(list, (accumulator, element, index, list) -> accumulator + element, 0L);
+    }
+
+    @Benchmark
+    public Integer reduceRight() {
+        return ListUtil.reduceRight(list, (accumulator, element, index, list) -> accumulator + element);
+    }
+
+    @Benchmark
+    public Long reduceRightInitialValue() {
+        return ListUtil.reduceRight(list, (accumulator, element, index, list) -> accumulator + element, 0L);
+    }
+
+    @Benchmark
+    public List<Integer> slice() {
+        return ListUtil.slice(list);
+    }
+
+    @Benchmark
+    public List<Integer> sliceStart() {
+        return ListUtil.slice(list, size / 2);
+    }
+
+    @Benchmark
+    public List<Integer> sliceStartEnd() {
+        return ListUtil.slice(list, size / 4, -size / 4);
+    }
+
+    @Benchmark
+    public boolean some() {
+        return ListUtil.some(list, (element, index, list) -> element < 0);
+    }
+
+    @Benchmark
+    public String toStringJoin() {
+        return ListUtil.toString(list);
+    }
+}
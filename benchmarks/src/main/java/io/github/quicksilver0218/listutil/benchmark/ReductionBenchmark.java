@@ -0,0 +1,69 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import io.github.quicksilver0218.listutil.ReductionList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated window reductions of a changing list, by <b>slice</b> and <b>reduce</b> and through <b>ListUtil.reduction()</b>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ReductionBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private ReductionList<Integer> reduction;
+    private Integer item;
+
+    @Setup
+    public void setup() {
+        list = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+        reduction = ListUtil.reduction(ListKind.ARRAY_LIST.create(ListKind.sequence(size)), Integer::sum, 0);
+        item = 7;
+        reduction.reduce();
+    }
+
+    @Benchmark
+    public Integer sliceReduce() {
+        return ListUtil.reduce(ListUtil.slice(list, size / 4, -size / 4), (accumulator, element, index, l) -> accumulator + element, 0);
+    }
+
+    @Benchmark
+    public Integer reductionReduce() {
+        return reduction.reduce(size / 4, -size / 4);
+    }
+
+    @Benchmark
+    public Integer reductionReduceRight() {
+        return reduction.reduceRight(size / 4, -size / 4);
+    }
+
+    @Benchmark
+    public Integer slicePushPop() {
+        ListUtil.push(list, item);
+        ListUtil.pop(list);
+        return ListUtil.reduce(ListUtil.slice(list, size / 4, -size / 4), (accumulator, element, index, l) -> accumulator + element, 0);
+    }
+
+    @Benchmark
+    public Integer reductionPushPop() {
+        ListUtil.push(reduction, item);
+        ListUtil.pop(reduction);
+        return reduction.reduce(size / 4, -size / 4);
+    }
+
+    @Benchmark
+    public Integer reductionFill() {
+        ListUtil.fill(reduction, item, size / 2, size / 2 + 16);
+        return reduction.reduce(size / 4, -size / 4);
+    }
+}
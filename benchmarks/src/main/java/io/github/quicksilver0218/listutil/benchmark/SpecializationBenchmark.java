@@ -0,0 +1,101 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import io.github.quicksilver0218.listutil.Specialization;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>filter()</b>, <b>map()</b> and <b>reduce()</b> with a clean type profile, where the loops have only seen the measured callbacks, and a polluted one, where they have first been run with eight other callbacks each.
+ * With specialization disabled, the polluted profile leaves the callback call megamorphic; with it enabled, every callback class runs in its own copy of the loops.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SpecializationBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean specialized;
+
+    @Param({"false", "true"})
+    public boolean polluted;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.ARRAY_LIST.create(ListKind.sequence(size));
+        Specialization.setEnabled(specialized);
+        if (polluted)
+            pollute(ListKind.ARRAY_LIST.create(ListKind.sequence(1000)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Specialization.setEnabled(false);
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return ListUtil.filter(list, (element, index, list) -> (element & 1) == 0);
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return ListUtil.map(list, (element, index, list) -> element + 1);
+    }
+
+    @Benchmark
+    public Integer reduce() {
+        return ListUtil.reduce(list, (accumulator, element, index, list) -> accumulator + element, 0);
+    }
+
+    /**
+     * Runs the loops with eight callback classes each, long enough for them to be compiled with the resulting profile.
+     */
+    private static void pollute(List<Integer> list) {
+        List<ListUtil.Predicate<Integer>> predicates = List.of(
+                (element, index, l) -> element > 0,
+                (element, index, l) -> element < 0,
+                (element, index, l) -> element % 3 == 0,
+                (element, index, l) -> element % 5 == 0,
+                (element, index, l) -> index > 10,
+                (element, index, l) -> index < 10,
+                (element, index, l) -> element == index,
+                (element, index, l) -> element != 7);
+        List<ListUtil.Mapper<Integer, Integer>> mappers = List.of(
+                (element, index, l) -> element * 2,
+                (element, index, l) -> element - 1,
+                (element, index, l) -> element + index,
+                (element, index, l) -> element ^ index,
+                (element, index, l) -> element >>> 1,
+                (element, index, l) -> -element,
+                (element, index, l) -> element % 7,
+                (element, index, l) -> index);
+        List<ListUtil.Reducer<Integer, Integer>> reducers = List.of(
+                (accumulator, element, index, l) -> accumulator - element,
+                (accumulator, element, index, l) -> accumulator ^ element,
+                (accumulator, element, index, l) -> accumulator | element,
+                (accumulator, element, index, l) -> Math.max(accumulator, element),
+                (accumulator, element, index, l) -> Math.min(accumulator, element),
+                (accumulator, element, index, l) -> accumulator + index,
+                (accumulator, element, index, l) -> accumulator * 31 + element,
+                (accumulator, element, index, l) -> accumulator + 1);
+        int sink = 0;
+        for (int i = 0; i < 5000; i++)
+            for (int j = 0; j < 8; j++) {
+                sink += ListUtil.filter(list, predicates.get(j)).size();
+                sink += ListUtil.map(list, mappers.get(j)).size();
+                sink += ListUtil.reduce(list, reducers.get(j), 0);
+            }
+        if (sink == 42)
+            System.out.println(sink);
+    }
+}
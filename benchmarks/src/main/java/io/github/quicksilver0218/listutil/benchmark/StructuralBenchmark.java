@@ -0,0 +1,68 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Methods that change the size of the list they are called upon.
+ * Each benchmark pairs an insertion with a removal so that the size stays constant across invocations.
+ * <b>Arrays.asList</b> is fixed-size and therefore not covered.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StructuralBenchmark {
+    @Param({"ARRAY_LIST", "LINKED_LIST", "COPY_ON_WRITE_ARRAY_LIST", "GAP_BUFFER_LIST", "RING_BUFFER_LIST"})
+    public ListKind kind;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private Integer item;
+
+    @Setup
+    public void setup() {
+        list = kind.create(ListKind.sequence(size));
+        item = 7;
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        ListUtil.push(list, item);
+        return ListUtil.pop(list);
+    }
+
+    @Benchmark
+    public Integer unshiftShift() {
+        ListUtil.unshift(list, item);
+        return ListUtil.shift(list);
+    }
+
+    @Benchmark
+    public List<Integer> spliceStart() {
+        List<Integer> removed = ListUtil.splice(list, size / 2);
+        list.addAll(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public List<Integer> spliceDeleteCountItems() {
+        List<Integer> removed = ListUtil.splice(list, size / 2, 3, item);
+        ListUtil.splice(list, size / 2, 1, removed.get(0), removed.get(1), removed.get(2));
+        return removed;
+    }
+
+    @Benchmark
+    public List<Integer> spliceReplace() {
+        List<Integer> removed = ListUtil.splice(list, size / 2, 2, item, item);
+        ListUtil.splice(list, size / 2, 2, removed.get(0), removed.get(1));
+        return removed;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selecting the least 50 elements, by sort-then-slice and by heap selection.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TopKBenchmark {
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"50"})
+    public int k;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = ListKind.shuffled(size);
+    }
+
+    @Benchmark
+    public List<Integer> sortThenSlice() {
+        return new ArrayList<>(ListUtil.slice(ListUtil.sort(new ArrayList<>(list), ORDER), 0, k));
+    }
+
+    @Benchmark
+    public List<Integer> topK() {
+        return ListUtil.topK(list, ORDER, k);
+    }
+
+    @Benchmark
+    public List<Integer> parallelTopK() {
+        return ListUtil.parallelTopK(list, ORDER, k);
+    }
+
+    @Benchmark
+    public List<Integer> sortSlice() {
+        return ListUtil.sortSlice(new ArrayList<>(list), ORDER, k);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.quicksilver0218.listutil.benchmark;
+
+import io.github.quicksilver0218.listutil.ListUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per call of the callback methods as the size grows by factors of ten.
+ * On both kinds of list the score should grow by about ten times per step as well, i.e. the traversal stays linear.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TraversalBenchmark {
+    @Param({"ARRAY_LIST", "LINKED_LIST"})
+    public ListKind kind;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = kind.create(ListKind.sequence(size));
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return ListUtil.filter(list, (element, index, list) -> element == index);
+    }
+
+    @Benchmark
+    public Integer find() {
+        return ListUtil.find(list, (element, index, list) -> index == list.size() - 1);
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return ListUtil.map(list, (element, index, list) -> element ^ index);
+    }
+
+    @Benchmark
+    public Integer reduceRight() {
+        return ListUtil.reduceRight(list, (accumulator, element, index, list) -> accumulator ^ element);
+    }
+
+    @Benchmark
+    public int lastIndexOf() {
+        return ListUtil.lastIndexOf(list, -1, size);
+    }
+}
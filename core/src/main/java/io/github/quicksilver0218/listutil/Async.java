@@ -0,0 +1,195 @@
+package io.github.quicksilver0218.listutil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs the callbacks of the asynchronous methods of <b>ListUtil</b>.
+ * A call starts at most <b>concurrency</b> workers, which take the next index from a shared counter until the list is exhausted, so output order is kept by index.
+ * Workers run on virtual threads where the runtime supports them (Java 21 and later), otherwise on a shared pool of daemon threads.
+ */
+enum Async {;
+    static final Executor EXECUTOR = executor();
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+    private static final Object PENDING = new Object();
+
+    /**
+     * A callback applied to an element, returning its result.
+     */
+    interface Task<T> {
+        Object run(T element, int index, List<T> list);
+    }
+
+    /**
+     * Applies <b>task</b> to every element of <b>source</b>.
+     * @param list The list passed to the callbacks.
+     * @param timeout Time after which the call fails with a <b>TimeoutException</b> cause, or <b>null</b>.
+     * @param finisher Converts the results, by index, to the value of the future.
+     */
+    static <T, R> CompletableFuture<R> run(List<T> source, List<T> list, int concurrency, Duration timeout, Task<? super T> task, Function<Object[], R> finisher) {
+        if (concurrency < 1)
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        return new Call<>(source, list, task, finisher).start(concurrency, timeout);
+    }
+
+    private static final class Call<T, R> {
+        final List<T> source;
+        final List<T> list;
+        final Task<? super T> task;
+        final Function<Object[], R> finisher;
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        final AtomicReferenceArray<Object> outcomes;
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final Set<Thread> workers = new HashSet<>();
+
+        Call(List<T> source, List<T> list, Task<? super T> task, Function<Object[], R> finisher) {
+            this.source = source;
+            this.list = list;
+            this.task = task;
+            this.finisher = finisher;
+            this.outcomes = new AtomicReferenceArray<>(source.size());
+            for (int i = 0; i < source.size(); i++)
+                outcomes.lazySet(i, PENDING);
+        }
+
+        CompletableFuture<R> start(int concurrency, Duration timeout) {
+            int count = Math.min(concurrency, source.size());
+            if (count == 0) {
+                future.complete(finisher.apply(new Object[0]));
+                return future;
+            }
+            ScheduledFuture<?> timer = timeout == null ? null : TIMER.schedule(
+                    () -> future.completeExceptionally(partial("Timed out after " + timeout, new TimeoutException())), timeout.toNanos(), TimeUnit.NANOSECONDS);
+            // Stop the workers and the timer as soon as the future completes for any reason, including cancellation, so that neither keeps the call reachable.
+            future.whenComplete((result, error) -> {
+                synchronized (workers) {
+                    for (Thread worker : workers)
+                        worker.interrupt();
+                }
+                if (timer != null)
+                    timer.cancel(false);
+            });
+            running.set(count);
+            for (int i = 0; i < count; i++)
+                EXECUTOR.execute(this::work);
+            return future;
+        }
+
+        @SuppressWarnings("unchecked")
+        void work() {
+            Thread thread = Thread.currentThread();
+            synchronized (workers) {
+                workers.add(thread);
+            }
+            try {
+                int index;
+                while (!future.isDone() && (index = next.getAndIncrement()) < source.size()) {
+                    Object outcome;
+                    try {
+                        outcome = ((Task<T>) task).run(source.get(index), index, list);
+                    } catch (Throwable e) {
+                        outcome = new Failure(e);
+                    }
+                    outcomes.set(index, outcome);
+                }
+            } finally {
+                // A pooled thread must not carry the interrupt to its next task.
+                synchronized (workers) {
+                    workers.remove(thread);
+                    Thread.interrupted();
+                }
+            }
+            if (running.decrementAndGet() == 0)
+                finish();
+        }
+
+        void finish() {
+            Object[] results = new Object[outcomes.length()];
+            for (int i = 0; i < results.length; i++) {
+                Object outcome = outcomes.get(i);
+                if (outcome instanceof Failure) {
+                    future.completeExceptionally(partial(null, null));
+                    return;
+                }
+                results[i] = outcome;
+            }
+            try {
+                future.complete(finisher.apply(results));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        PartialResultException partial(String message, Throwable cause) {
+            List<Object> results = new ArrayList<>(outcomes.length());
+            Map<Integer, Throwable> failures = new TreeMap<>();
+            BitSet completed = new BitSet(outcomes.length());
+            for (int i = 0; i < outcomes.length(); i++) {
+                Object outcome = outcomes.get(i);
+                if (outcome instanceof Failure)
+                    failures.put(i, ((Failure) outcome).error);
+                else if (outcome != PENDING)
+                    completed.set(i);
+                results.add(outcome == PENDING || outcome instanceof Failure ? null : outcome);
+            }
+            if (cause == null && !failures.isEmpty()) {
+                Map.Entry<Integer, Throwable> first = failures.entrySet().iterator().next();
+                cause = first.getValue();
+                message = failures.size() + " callback(s) failed, first at index " + first.getKey();
+            }
+            return new PartialResultException(message, cause, results, failures, completed);
+        }
+    }
+
+    private static final class Failure {
+        final Throwable error;
+
+        Failure(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Returns the thread scheduling the timeouts. Cancelled timeouts are removed from its queue at once, rather than when they would have expired.
+     */
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "list-util-async-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private static Executor executor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "list-util-async-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe list guarded by a <b>StampedLock</b>, for lists shared by many readers and writers.
+ * Reads that run no code of the caller, such as <b>get</b>, <b>size</b> and <b>toArray</b>, are optimistic: they take no lock unless a write happened during the read, in which case they are retried under the read lock.
+ * Reads that do, such as <b>indexOf</b>, which calls <b>equals</b>, run once under the read lock.
+ * Every method of this class is atomic, and <b>update()</b> runs a compound operation atomically.
+ * <p>
+ * <b>ListUtil</b> supports the list directly: the mutating methods, such as <b>push</b>, <b>pop</b>, <b>splice</b> and <b>fill</b>, run under the write lock, and the read-only methods traverse the elements in place under the read lock, without copying them.
+ * Their callbacks may read the list, but modifying it from a callback throws <b>ConcurrentModificationException</b>, since the write would wait for the read lock the traversal holds.
+ * Iterators traverse a snapshot, so they never throw <b>ConcurrentModificationException</b> and do not support modification.
+ */
+public class ConcurrentList<T> extends AbstractList<T> implements RandomAccess {
+    /**
+     * The lists whose read locks the current thread holds for <b>traverse</b>, innermost last.
+     */
+    private static final ThreadLocal<ArrayList<ConcurrentList<?>>> TRAVERSED = ThreadLocal.withInitial(ArrayList::new);
+
+    private final StampedLock lock = new StampedLock();
+    private final ArrayList<T> list;
+
+    /**
+     * Creates an empty list.
+     */
+    public ConcurrentList() {
+        list = new ArrayList<>();
+    }
+
+    /**
+     * Creates an empty list.
+     * @param initialCapacity The number of elements the list can hold before it grows.
+     */
+    public ConcurrentList(int initialCapacity) {
+        list = new ArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Creates a list containing the elements of a collection.
+     * @param collection The elements to store.
+     */
+    public ConcurrentList(Collection<? extends T> collection) {
+        list = new ArrayList<>(collection);
+    }
+
+    /**
+     * Runs an operation atomically, holding the write lock.
+     * @param action The operation, which receives the unsynchronized list holding the elements. It must only use that list, which must not escape the operation, and must not use this list, since the lock is not reentrant.
+     * @return The result of <b>action</b>.
+     */
+    public <R> R update(Function<? super List<T>, ? extends R> action) {
+        checkTraversal();
+        long stamp = lock.writeLock();
+        try {
+            modCount++;
+            return action.apply(list);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a consistent copy of the list.
+     * @return An unmodifiable list of the elements at one point in time.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> snapshot() {
+        return Collections.unmodifiableList((List<T>) Arrays.asList(read(List::toArray)));
+    }
+
+    @Override
+    public int size() {
+        return read(List::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return read(List::isEmpty);
+    }
+
+    @Override
+    public T get(int index) {
+        return read(list -> list.get(index));
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return write(list -> list.set(index, element));
+    }
+
+    @Override
+    public boolean add(T element) {
+        return update(list -> list.add(element));
+    }
+
+    @Override
+    public void add(int index, T element) {
+        update(list -> {
+            list.add(index, element);
+            return null;
+        });
+    }
+
+    @Override
+    public T remove(int index) {
+        return update(list -> list.remove(index));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return update(list -> list.remove(o));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        List<T> elements = new ArrayList<>(collection);
+        return update(list -> list.addAll(elements));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        List<T> elements = new ArrayList<>(collection);
+        return update(list -> list.addAll(index, elements));
+    }
+
+    @Override
+    public void clear() {
+        update(list -> {
+            list.clear();
+            return null;
+        });
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        update(list -> {
+            list.subList(fromIndex, toIndex).clear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return update(list -> list.removeIf(filter));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        write(list -> {
+            list.replaceAll(operator);
+            return null;
+        });
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        write(list -> {
+            list.sort(comparator);
+            return null;
+        });
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return traverse(list -> list.indexOf(o));
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return traverse(list -> list.lastIndexOf(o));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return traverse(list -> list.contains(o));
+    }
+
+    @Override
+    public Object[] toArray() {
+        return read(List::toArray);
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array) {
+        return read(list -> list.toArray(array));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        traverse(list -> {
+            list.forEach(action);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || traverse(list -> list.equals(o));
+    }
+
+    @Override
+    public int hashCode() {
+        return traverse(List::hashCode);
+    }
+
+    /**
+     * Runs a read without locking, then under the read lock if a write happened meanwhile. An exception from an inconsistent read is discarded the same way.
+     */
+    private <R> R read(Function<? super List<T>, ? extends R> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0)
+            try {
+                R result = reader.apply(list);
+                if (lock.validate(stamp))
+                    return result;
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp))
+                    throw e;
+            }
+        stamp = lock.readLock();
+        try {
+            return reader.apply(list);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a read that calls code of the caller, such as a callback or <b>equals</b>, under the read lock, so that it runs once, over elements no writer changes meanwhile.
+     * A thread already traversing this list holds the read lock, and runs the read directly rather than waiting behind a queued writer.
+     */
+    <R> R traverse(Function<? super List<T>, ? extends R> reader) {
+        ArrayList<ConcurrentList<?>> traversed = TRAVERSED.get();
+        if (traverses(traversed))
+            return reader.apply(list);
+        long stamp = lock.readLock();
+        traversed.add(this);
+        try {
+            return reader.apply(list);
+        } finally {
+            traversed.remove(traversed.size() - 1);
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Throws if the current thread is traversing this list, since it would then wait for its own read lock.
+     */
+    private void checkTraversal() {
+        if (traverses(TRAVERSED.get()))
+            throw new ConcurrentModificationException("A ConcurrentList cannot be modified while the current thread traverses it");
+    }
+
+    private boolean traverses(ArrayList<ConcurrentList<?>> traversed) {
+        for (int i = 0; i < traversed.size(); i++)
+            if (traversed.get(i) == this)
+                return true;
+        return false;
+    }
+
+    /**
+     * Runs a non-structural modification under the write lock.
+     */
+    private <R> R write(Function<? super List<T>, ? extends R> writer) {
+        checkTraversal();
+        long stamp = lock.writeLock();
+        try {
+            return writer.apply(list);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+
+/**
+ * A growable list of <b>double</b> values kept in a <b>double[]</b>, so that elements are never boxed.
+ * The <b>DoubleList</b> overloads of <b>ListUtil</b> operate on it directly; <b>boxed()</b> gives a <b>List&lt;Double&gt;</b> view for the other methods.
+ */
+public final class DoubleList {
+    private static final double[] EMPTY = {};
+
+    double[] elements;
+    int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public DoubleList() {
+        elements = EMPTY;
+    }
+
+    /**
+     * Creates an empty list able to hold <b>initialCapacity</b> elements without growing.
+     * @param initialCapacity The initial capacity of the list.
+     * @throws IllegalArgumentException If <b>initialCapacity</b> is negative.
+     */
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        elements = initialCapacity == 0 ? EMPTY : new double[initialCapacity];
+    }
+
+    /**
+     * Creates a new <b>DoubleList</b> instance from a variable number of arguments.
+     * @param items Elements used to create the list.
+     * @return A new <b>DoubleList</b> instance.
+     */
+    public static DoubleList of(double... items) {
+        DoubleList result = new DoubleList(items.length);
+        System.arraycopy(items, 0, result.elements, 0, items.length);
+        result.size = items.length;
+        return result;
+    }
+
+    /**
+     * @return The number of elements in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <b>true</b> if the list contains no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index Index of the element to return.
+     * @return The element at <b>index</b>.
+     * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+     */
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at <b>index</b>.
+     * @param index Index of the element to replace.
+     * @param element Element to be stored at <b>index</b>.
+     * @return The element previously at <b>index</b>.
+     * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+     */
+    public double set(int index, double element) {
+        Objects.checkIndex(index, size);
+        double old = elements[index];
+        elements[index] = element;
+        return old;
+    }
+
+    /**
+     * Appends an element to the end of the list.
+     * @param element Element to be appended.
+     */
+    public void add(double element) {
+        if (size == elements.length)
+            grow(size + 1);
+        elements[size++] = element;
+    }
+
+    /**
+     * Inserts an element at <b>index</b>, shifting the element currently at that position and any subsequent elements to the right.
+     * @param index Index at which the element is to be inserted.
+     * @param element Element to be inserted.
+     * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+     */
+    public void add(int index, double element) {
+        Objects.checkIndex(index, size + 1);
+        if (size == elements.length)
+            grow(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Removes the element at <b>index</b>, shifting any subsequent elements to the left.
+     * @param index Index of the element to be removed.
+     * @return The removed element.
+     * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+     */
+    public double remove(int index) {
+        Objects.checkIndex(index, size);
+        double old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    /**
+     * Removes all of the elements from the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return A new array containing the elements of the list.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a <b>List&lt;Double&gt;</b> view of the list. Changes to either are visible in the other. Elements are boxed on access.
+     * @return A boxed view of the list.
+     */
+    public List<Double> boxed() {
+        return new Boxed();
+    }
+
+    void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, 10));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof DoubleList))
+            return false;
+        DoubleList other = (DoubleList) o;
+        if (size != other.size)
+            return false;
+        for (int i = 0; i < size; i++)
+            if (Double.doubleToLongBits(elements[i]) != Double.doubleToLongBits(other.elements[i]))
+                return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++)
+            hashCode = 31 * hashCode + Double.hashCode(elements[i]);
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                builder.append(", ");
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private final class Boxed extends AbstractList<Double> implements RandomAccess {
+        @Override
+        public Double get(int index) {
+            return DoubleList.this.get(index);
+        }
+
+        @Override
+        public Double set(int index, Double element) {
+            return DoubleList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Double element) {
+            DoubleList.this.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public Double remove(int index) {
+            Double old = DoubleList.this.remove(index);
+            modCount++;
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            DoubleList.this.clear();
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.quicksilver0218.listutil;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.*;
+
+/**
+ * An <b>Appendable</b> that encodes the characters appended to it into a <b>ByteBuffer</b>, through one reusable character buffer.
+ * With a channel, full byte buffers are written to the channel; without one, the byte buffer is the final destination and a <b>BufferOverflowException</b> is thrown when it is full.
+ */
+final class EncodingAppendable implements Appendable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer bytes;
+    private final WritableByteChannel channel;
+    private long written;
+
+    EncodingAppendable(WritableByteChannel channel, Charset charset) {
+        this(channel, ByteBuffer.allocate(BUFFER_SIZE), charset);
+    }
+
+    EncodingAppendable(ByteBuffer bytes, Charset charset) {
+        this(null, bytes, charset);
+    }
+
+    private EncodingAppendable(WritableByteChannel channel, ByteBuffer bytes, Charset charset) {
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = bytes;
+        this.channel = channel;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        while (start < end) {
+            if (!chars.hasRemaining())
+                encode(false);
+            int count = Math.min(end - start, chars.remaining());
+            int position = chars.position();
+            if (csq instanceof String)
+                ((String) csq).getChars(start, start + count, chars.array(), position);
+            else
+                for (int i = 0; i < count; i++)
+                    chars.array()[position + i] = csq.charAt(start + i);
+            chars.position(position + count);
+            start += count;
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (!chars.hasRemaining())
+            encode(false);
+        chars.put(c);
+        return this;
+    }
+
+    /**
+     * Encodes the pending characters and, with a channel, writes out all the bytes.
+     * @return The number of bytes produced since creation.
+     */
+    long finish() throws IOException {
+        encode(true);
+        while (encoder.flush(bytes).isOverflow())
+            drain();
+        if (channel != null)
+            drain();
+        return written;
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        while (true) {
+            int before = bytes.position();
+            CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            written += bytes.position() - before;
+            if (result.isUnderflow())
+                break;
+            if (result.isOverflow())
+                drain();
+            else
+                result.throwException();
+        }
+        chars.compact();
+    }
+
+    private void drain() throws IOException {
+        if (channel == null)
+            throw new BufferOverflowException();
+        bytes.flip();
+        while (bytes.hasRemaining())
+            channel.write(bytes);
+        bytes.clear();
+    }
+}
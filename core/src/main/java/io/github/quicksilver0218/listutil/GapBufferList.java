@@ -0,0 +1,201 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+
+/**
+ * A list backed by an array with a movable gap at the position of the last insertion or removal.
+ * Moving the gap costs the distance it moves, so repeated <b>splice()</b>, <b>add(index, element)</b> and <b>remove(index)</b> calls at nearby positions are amortized O(1), while <b>get</b> and <b>set</b> stay O(1).
+ */
+public class GapBufferList<T> extends AbstractList<T> implements RandomAccess {
+    private Object[] buffer;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Creates an empty list.
+     */
+    public GapBufferList() {
+        this(10);
+    }
+
+    /**
+     * Creates an empty list able to hold <b>initialCapacity</b> elements without growing.
+     * @param initialCapacity The initial capacity of the list.
+     * @throws IllegalArgumentException If <b>initialCapacity</b> is negative.
+     */
+    public GapBufferList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        buffer = new Object[initialCapacity];
+        gapEnd = initialCapacity;
+    }
+
+    /**
+     * Creates a list containing the elements of a collection, in the order they are returned by its iterator.
+     * @param collection The collection whose elements are to be placed into the list.
+     */
+    public GapBufferList(Collection<? extends T> collection) {
+        Object[] elements = collection.toArray();
+        buffer = Arrays.copyOf(elements, Math.max(elements.length + (elements.length >> 1), 10), Object[].class);
+        gapStart = elements.length;
+        gapEnd = buffer.length;
+    }
+
+    @Override
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        return (T) buffer[physical(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size());
+        int i = physical(index);
+        T old = (T) buffer[i];
+        buffer[i] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(T element) {
+        add(size(), element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size() + 1);
+        moveGap(index);
+        ensureGap(1);
+        buffer[gapStart++] = element;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        Objects.checkIndex(index, size() + 1);
+        Object[] elements = collection.toArray();
+        if (elements.length == 0)
+            return false;
+        moveGap(index);
+        ensureGap(elements.length);
+        System.arraycopy(elements, 0, buffer, gapStart, elements.length);
+        gapStart += elements.length;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        return addAll(size(), collection);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        Objects.checkIndex(index, size());
+        moveGap(index);
+        T old = (T) buffer[gapEnd];
+        buffer[gapEnd++] = null;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(buffer, null);
+        gapStart = 0;
+        gapEnd = buffer.length;
+        modCount++;
+    }
+
+    /**
+     * Removes the range by widening the gap, which is what <b>subList(fromIndex, toIndex).clear()</b> ends up calling.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex)
+            return;
+        moveGap(fromIndex);
+        Arrays.fill(buffer, gapEnd, gapEnd + toIndex - fromIndex, null);
+        gapEnd += toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Sets the elements from index <b>from</b> to <b>to</b> to <b>element</b>.
+     */
+    void fill(int from, int to, T element) {
+        contiguous(from, to);
+        Arrays.fill(buffer, physical(from), physical(from) + to - from, element);
+    }
+
+    /**
+     * Copies <b>count</b> elements from index <b>from</b> to index <b>to</b>. The ranges may overlap.
+     */
+    void move(int from, int to, int count) {
+        contiguous(Math.min(from, to), Math.max(from, to) + count);
+        System.arraycopy(buffer, physical(from), buffer, physical(to), count);
+    }
+
+    /**
+     * Reverses the elements from index <b>from</b> to <b>to</b>.
+     */
+    void reverse(int from, int to) {
+        contiguous(from, to);
+        for (int i = physical(from), j = i + to - from - 1; i < j; i++, j--) {
+            Object temp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = temp;
+        }
+    }
+
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    /**
+     * Moves the gap out of the range from index <b>from</b> to <b>to</b>, to whichever end of it is nearer.
+     */
+    private void contiguous(int from, int to) {
+        if (gapStart > from && gapStart < to)
+            moveGap(gapStart - from < to - gapStart ? from : to);
+    }
+
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            Arrays.fill(buffer, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            Arrays.fill(buffer, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    private void ensureGap(int required) {
+        int gap = gapEnd - gapStart;
+        if (gap >= required)
+            return;
+        int size = buffer.length - gap;
+        int capacity = Math.max(size + required, buffer.length + (buffer.length >> 1));
+        Object[] grown = new Object[Math.max(capacity, 10)];
+        int tail = buffer.length - gapEnd;
+        System.arraycopy(buffer, 0, grown, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, grown, grown.length - tail, tail);
+        buffer = grown;
+        gapEnd = grown.length - tail;
+    }
+}
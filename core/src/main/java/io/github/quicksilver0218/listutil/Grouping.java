@@ -0,0 +1,62 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The group of each element, recorded in the one pass of <b>groupBy</b> over the list, from which the groups are filled into buckets of their exact sizes.
+ * Groups are numbered from <b>0</b> in the order they are first seen.
+ */
+final class Grouping {
+    private int[] groups;
+    private int[] counts = new int[8];
+    private int length;
+    int size;
+
+    Grouping(int expectedLength) {
+        this(expectedLength, 0);
+    }
+
+    /**
+     * Creates a grouping whose first <b>size</b> groups exist from the start, even if they stay empty.
+     */
+    Grouping(int expectedLength, int size) {
+        groups = new int[expectedLength];
+        if (size > counts.length)
+            counts = new int[size];
+        this.size = size;
+    }
+
+    /**
+     * Records that the element at <b>index</b> belongs to <b>group</b>, which is either an existing group or <b>size</b> for a new one.
+     */
+    void add(int index, int group) {
+        if (index >= groups.length)
+            groups = Arrays.copyOf(groups, Math.max(index + 1, groups.length * 2));
+        groups[index] = group;
+        length = Math.max(length, index + 1);
+        if (group == size) {
+            if (size == counts.length)
+                counts = Arrays.copyOf(counts, size * 2);
+            size++;
+        }
+        counts[group]++;
+    }
+
+    /**
+     * Returns the buckets of the groups, filled with the recorded elements of <b>source</b> in order.
+     */
+    <T> List<List<T>> fill(List<T> source) {
+        List<List<T>> buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            buckets.add(new ArrayList<>(counts[i]));
+        int index = 0;
+        for (T element : source) {
+            if (index == length)
+                break;
+            buckets.get(groups[index++]).add(element);
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,343 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * A view of a list with a hash index from each value to its positions, created by <b>ListUtil.index(list)</b>.
+ * <b>indexOf</b>, <b>lastIndexOf</b> and <b>contains</b>, and the <b>ListUtil</b> methods built on them, are answered in O(log n) instead of by a linear scan.
+ * <p>
+ * Changes made through this view, including those made by the <b>ListUtil</b> mutators, keep the index up to date: <b>set</b> and changes at the end of the list are applied to it directly, other insertions and removals, and bulk writes such as <b>replaceAll</b> and <b>ListUtil.fill</b>, mark it for a rebuild on the next lookup.
+ * Changes made directly to the underlying list are only detected when they change its size; call <b>reindex()</b> after any other such change.
+ */
+public class IndexedList<T> extends AbstractList<T> {
+    private final List<T> list;
+    private final Map<Object, Positions> index = new HashMap<>();
+    private boolean stale = true;
+    private int indexedSize;
+
+    IndexedList(List<T> list) {
+        this.list = list;
+    }
+
+    static <T> IndexedList<T> of(List<T> list) {
+        return list instanceof RandomAccess ? new RandomAccessIndexedList<>(list) : new IndexedList<>(list);
+    }
+
+    /**
+     * Rebuilds the index from the underlying list on the next lookup.
+     */
+    public void reindex() {
+        stale = true;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public T get(int index) {
+        Probe.checkAccess("IndexedList.get", list);
+        return list.get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T old = list.set(index, element);
+        if (isCurrent()) {
+            unindex(old, index);
+            positions(element).insert(index);
+        }
+        return old;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        boolean append = index == list.size() && isCurrent();
+        list.add(index, element);
+        if (append) {
+            positions(element).append(index);
+            indexedSize++;
+        } else
+            stale = true;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        boolean append = index == list.size() && isCurrent();
+        if (!list.addAll(index, c))
+            return false;
+        if (append) {
+            int i = indexedSize;
+            for (T element : list.subList(indexedSize, list.size()))
+                positions(element).append(i++);
+            indexedSize = i;
+        } else
+            stale = true;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public T remove(int index) {
+        boolean last = index == list.size() - 1 && isCurrent();
+        T old = list.remove(index);
+        if (last) {
+            unindex(old, index);
+            indexedSize--;
+        } else
+            stale = true;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        index.clear();
+        stale = false;
+        indexedSize = 0;
+        modCount++;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<T> range = list.subList(fromIndex, toIndex);
+        if (toIndex == list.size() && isCurrent()) {
+            ListIterator<T> iterator = range.listIterator(range.size());
+            for (int i = toIndex - 1; iterator.hasPrevious(); i--)
+                unindex(iterator.previous(), i);
+            indexedSize -= toIndex - fromIndex;
+        } else
+            stale = true;
+        range.clear();
+        modCount++;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        list.replaceAll(operator);
+        stale = true;
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        list.sort(c);
+        stale = true;
+        modCount++;
+    }
+
+    /**
+     * Sets the elements from <b>fromIndex</b> to <b>toIndex</b> to <b>element</b>, rebuilding the index once rather than updating it for every element.
+     */
+    void fill(int fromIndex, int toIndex, T element) {
+        ListUtil.fill(list, element, fromIndex, toIndex);
+        stale = true;
+    }
+
+    /**
+     * Copies <b>count</b> elements from index <b>from</b> to index <b>to</b>, rebuilding the index once rather than updating it for every element.
+     */
+    void move(int from, int to, int count) {
+        ListUtil.copyWithin(list, to, from, from + count);
+        stale = true;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        ListIterator<T> iterator = list.listIterator(index);
+        return new ListIterator<T>() {
+            private int lastIndex = -1;
+            private T lastElement;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                lastIndex = iterator.nextIndex();
+                return lastElement = iterator.next();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T previous() {
+                lastIndex = iterator.previousIndex();
+                return lastElement = iterator.previous();
+            }
+
+            @Override
+            public int nextIndex() {
+                return iterator.nextIndex();
+            }
+
+            @Override
+            public int previousIndex() {
+                return iterator.previousIndex();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                stale = true;
+                modCount++;
+            }
+
+            @Override
+            public void set(T element) {
+                iterator.set(element);
+                if (isCurrent()) {
+                    unindex(lastElement, lastIndex);
+                    positions(element).insert(lastIndex);
+                }
+                lastElement = element;
+            }
+
+            @Override
+            public void add(T element) {
+                iterator.add(element);
+                stale = true;
+                modCount++;
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return indexOf(o, 0);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return lastIndexOf(o, list.size() - 1);
+    }
+
+    /**
+     * @param o Element to locate.
+     * @param fromIndex The index to start the search at. Negative values are treated as <b>0</b>.
+     * @return The first index at or after <b>fromIndex</b> at which <b>o</b> is found; <b>-1</b> if not found.
+     */
+    public int indexOf(Object o, int fromIndex) {
+        Positions positions = lookup(o);
+        if (positions == null)
+            return -1;
+        int i = positions.ceiling(Math.max(fromIndex, 0));
+        return i < positions.size ? positions.values[i] : -1;
+    }
+
+    /**
+     * @param o Element to locate.
+     * @param fromIndex The index at which to start searching backwards. Values beyond the end of the list are treated as the last index.
+     * @return The last index at or before <b>fromIndex</b> at which <b>o</b> is found; <b>-1</b> if not found.
+     */
+    public int lastIndexOf(Object o, int fromIndex) {
+        fromIndex = Math.min(fromIndex, size() - 1);
+        if (fromIndex < 0)
+            return -1;
+        Positions positions = lookup(o);
+        if (positions == null)
+            return -1;
+        int i = positions.ceiling(fromIndex + 1) - 1;
+        return i >= 0 ? positions.values[i] : -1;
+    }
+
+    /**
+     * @param o Element to locate.
+     * @param fromIndex The index to start the search at. Negative values are treated as <b>0</b>.
+     * @return <b>true</b> if <b>o</b> is found at or after <b>fromIndex</b>.
+     */
+    public boolean contains(Object o, int fromIndex) {
+        return indexOf(o, fromIndex) >= 0;
+    }
+
+    private boolean isCurrent() {
+        return !stale && indexedSize == list.size();
+    }
+
+    private Positions lookup(Object o) {
+        if (!isCurrent())
+            rebuild();
+        return index.get(o);
+    }
+
+    private void rebuild() {
+        index.clear();
+        int i = 0;
+        for (T element : list)
+            positions(element).append(i++);
+        indexedSize = i;
+        stale = false;
+    }
+
+    private Positions positions(Object element) {
+        return index.computeIfAbsent(element, key -> new Positions());
+    }
+
+    private void unindex(Object element, int position) {
+        Positions positions = index.get(element);
+        positions.delete(position);
+        if (positions.size == 0)
+            index.remove(element);
+    }
+
+    /**
+     * A sorted set of positions.
+     */
+    private static final class Positions {
+        int[] values = new int[2];
+        int size;
+
+        /**
+         * @return The index in <b>values</b> of the first position not less than <b>position</b>.
+         */
+        int ceiling(int position) {
+            int i = Arrays.binarySearch(values, 0, size, position);
+            return i < 0 ? -i - 1 : i;
+        }
+
+        void append(int position) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = position;
+        }
+
+        void insert(int position) {
+            int i = ceiling(position);
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            System.arraycopy(values, i, values, i + 1, size - i);
+            values[i] = position;
+            size++;
+        }
+
+        void delete(int position) {
+            int i = ceiling(position);
+            System.arraycopy(values, i + 1, values, i, size - i - 1);
+            size--;
+        }
+    }
+
+    private static final class RandomAccessIndexedList<T> extends IndexedList<T> implements RandomAccess {
+        RandomAccessIndexedList(List<T> list) {
+            super(list);
+        }
+    }
+}
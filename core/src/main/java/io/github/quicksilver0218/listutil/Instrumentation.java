@@ -0,0 +1,176 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Optional instrumentation of the <b>ListUtil</b> methods that traverse or search a list.
+ * Nothing is recorded until a listener is set. While no listener is set, an instrumented method only reads one static field, and callbacks are called directly.
+ * <p>
+ * <b>MetricsRecorder</b> aggregates the events in memory, and <b>JFR</b> emits them as Java Flight Recorder events.
+ */
+public enum Instrumentation {;
+    /**
+     * Emits <b>io.github.quicksilver0218.listutil.Invocation</b> and <b>io.github.quicksilver0218.listutil.SlowAccess</b> JFR events. Callback latencies are included in the invocation event as a total.
+     */
+    public static final Listener JFR = new JfrListener();
+
+    static volatile Listener listener;
+
+    /**
+     * Receives the events of the instrumented methods. The methods may be called concurrently from any thread that uses <b>ListUtil</b>.
+     */
+    public interface Listener {
+        /**
+         * Called when an instrumented method returns.
+         * @param invocation What the method did.
+         */
+        default void completed(Invocation invocation) {
+        }
+
+        /**
+         * Called after every callback run by an instrumented method.
+         * @param method Name of the method.
+         * @param nanos Time the callback took, in nanoseconds.
+         */
+        default void callback(String method, long nanos) {
+        }
+
+        /**
+         * Called when a method is about to access a list by index although it does not implement <b>RandomAccess</b>, which may take quadratic time.
+         * @param method Name of the method.
+         * @param list The list.
+         */
+        default void slowAccess(String method, List<?> list) {
+        }
+
+        /**
+         * @param other Listener to notify after this one.
+         * @return A listener notifying both listeners.
+         */
+        default Listener andThen(Listener other) {
+            Objects.requireNonNull(other);
+            Listener first = this;
+            return new Listener() {
+                @Override
+                public void completed(Invocation invocation) {
+                    first.completed(invocation);
+                    other.completed(invocation);
+                }
+
+                @Override
+                public void callback(String method, long nanos) {
+                    first.callback(method, nanos);
+                    other.callback(method, nanos);
+                }
+
+                @Override
+                public void slowAccess(String method, List<?> list) {
+                    first.slowAccess(method, list);
+                    other.slowAccess(method, list);
+                }
+            };
+        }
+    }
+
+    /**
+     * A completed call to an instrumented method.
+     */
+    public static final class Invocation {
+        private final String method;
+        private final Class<?> listType;
+        private final int size;
+        private final int visited;
+        private final int stopIndex;
+        private final int resultSize;
+        private final long nanos;
+        private final long callbackNanos;
+
+        Invocation(String method, Class<?> listType, int size, int visited, int stopIndex, int resultSize, long nanos, long callbackNanos) {
+            this.method = method;
+            this.listType = listType;
+            this.size = size;
+            this.visited = visited;
+            this.stopIndex = stopIndex;
+            this.resultSize = resultSize;
+            this.nanos = nanos;
+            this.callbackNanos = callbackNanos;
+        }
+
+        /**
+         * @return Name of the method.
+         */
+        public String method() {
+            return method;
+        }
+
+        /**
+         * @return Class of the list the method was called upon.
+         */
+        public Class<?> listType() {
+            return listType;
+        }
+
+        /**
+         * @return Size of the list when the method was called.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return Number of elements passed to the callback or compared with the searched item.
+         */
+        public int visited() {
+            return visited;
+        }
+
+        /**
+         * @return Index at which <b>find</b>, <b>findIndex</b>, <b>some</b>, <b>every</b> or a search stopped; <b>-1</b> if it went through the whole list or the method does not stop early.
+         */
+        public int stopIndex() {
+            return stopIndex;
+        }
+
+        /**
+         * @return Size of the returned list; <b>-1</b> if the method does not return a list.
+         */
+        public int resultSize() {
+            return resultSize;
+        }
+
+        /**
+         * @return Time the method took, in nanoseconds.
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * @return Total time spent in callbacks, in nanoseconds.
+         */
+        public long callbackNanos() {
+            return callbackNanos;
+        }
+
+        @Override
+        public String toString() {
+            return method + "(" + listType.getSimpleName() + "[" + size + "]): visited=" + visited + ", stopIndex=" + stopIndex + ", resultSize=" + resultSize + ", nanos=" + nanos + ", callbackNanos=" + callbackNanos;
+        }
+    }
+
+    /**
+     * Sets the listener receiving the events of all threads.
+     * @param listener The listener, or <b>null</b> to disable the instrumentation.
+     */
+    public static void setListener(Listener listener) {
+        Instrumentation.listener = listener;
+    }
+
+    /**
+     * @return The current listener, or <b>null</b> if the instrumentation is disabled.
+     */
+    public static Listener getListener() {
+        return listener;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.List;
+
+/**
+ * The groups of a list keyed by <b>int</b> values, returned by <b>ListUtil.groupByInt()</b>.
+ * The keys are held in an open-addressing hash table of <b>int[]</b>, so that they are never boxed, and are kept in the order they were first seen.
+ */
+public final class IntGroups<T> {
+    private int[] table = new int[16];
+    private int[] slots = new int[16];
+    private final IntList keys = new IntList();
+    List<List<T>> buckets;
+
+    IntGroups() {
+    }
+
+    /**
+     * @return The number of groups.
+     */
+    public int size() {
+        return keys.size;
+    }
+
+    /**
+     * @return A new <b>IntList</b> of the keys, in the order they were first seen in the list.
+     */
+    public IntList keys() {
+        IntList result = new IntList(keys.size);
+        System.arraycopy(keys.elements, 0, result.elements, 0, keys.size);
+        result.size = keys.size;
+        return result;
+    }
+
+    /**
+     * @param key Key of a group.
+     * @return The elements of the list with the key, in their order in the list; <b>null</b> if there are none.
+     */
+    public List<T> get(int key) {
+        int slot = find(key);
+        return slots[slot] == 0 ? null : buckets.get(slots[slot] - 1);
+    }
+
+    /**
+     * @param key Key of a group.
+     * @return <b>true</b> if some element of the list has the key.
+     */
+    public boolean containsKey(int key) {
+        return slots[find(key)] != 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < keys.size; i++) {
+            if (i > 0)
+                builder.append(", ");
+            builder.append(keys.elements[i]).append('=').append(buckets.get(i));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns the number of the group of <b>key</b>, adding a group if it is new.
+     */
+    int group(int key) {
+        int slot = find(key);
+        if (slots[slot] != 0)
+            return slots[slot] - 1;
+        int group = keys.size;
+        keys.add(key);
+        table[slot] = key;
+        slots[slot] = group + 1;
+        if (keys.size * 2 > table.length)
+            rehash();
+        return group;
+    }
+
+    /**
+     * Returns the slot holding <b>key</b>, or the empty slot where it would be added.
+     */
+    private int find(int key) {
+        int mask = table.length - 1;
+        int h = key * 0x9E3779B9;
+        for (int slot = (h ^ h >>> 16) & mask; ; slot = (slot + 1) & mask)
+            if (slots[slot] == 0 || table[slot] == key)
+                return slot;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        slots = new int[table.length];
+        for (int i = 0; i < keys.size; i++) {
+            int slot = find(keys.elements[i]);
+            table[slot] = keys.elements[i];
+            slots[slot] = i + 1;
+        }
+    }
+}
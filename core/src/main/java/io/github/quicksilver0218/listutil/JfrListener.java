@@ -0,0 +1,79 @@
+package io.github.quicksilver0218.listutil;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.List;
+
+/**
+ * Emits the instrumentation events as JFR events, when a recording has enabled them.
+ */
+final class JfrListener implements Instrumentation.Listener {
+    @Override
+    public void completed(Instrumentation.Invocation invocation) {
+        InvocationEvent event = new InvocationEvent();
+        if (!event.shouldCommit())
+            return;
+        event.method = invocation.method();
+        event.listType = invocation.listType();
+        event.size = invocation.size();
+        event.visited = invocation.visited();
+        event.stopIndex = invocation.stopIndex();
+        event.resultSize = invocation.resultSize();
+        event.time = invocation.nanos();
+        event.callbackTime = invocation.callbackNanos();
+        event.commit();
+    }
+
+    @Override
+    public void slowAccess(String method, List<?> list) {
+        SlowAccessEvent event = new SlowAccessEvent();
+        if (!event.shouldCommit())
+            return;
+        event.method = method;
+        event.listType = list.getClass();
+        event.size = list.size();
+        event.commit();
+    }
+
+    @Name("io.github.quicksilver0218.listutil.Invocation")
+    @Label("ListUtil Invocation")
+    @Category("ListUtil")
+    @StackTrace(false)
+    static final class InvocationEvent extends Event {
+        @Label("Method")
+        String method;
+        @Label("List Type")
+        Class<?> listType;
+        @Label("Size")
+        int size;
+        @Label("Visited")
+        int visited;
+        @Label("Stop Index")
+        int stopIndex;
+        @Label("Result Size")
+        int resultSize;
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+        @Label("Callback Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long callbackTime;
+    }
+
+    @Name("io.github.quicksilver0218.listutil.SlowAccess")
+    @Label("ListUtil Slow Access")
+    @Category("ListUtil")
+    static final class SlowAccessEvent extends Event {
+        @Label("Method")
+        String method;
+        @Label("List Type")
+        Class<?> listType;
+        @Label("Size")
+        int size;
+    }
+}
@@ -0,0 +1,483 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+import java.util.concurrent.Flow;
+
+/**
+ * A lazy pipeline over a list, created by <b>ListUtil.lazy(list)</b>.
+ * <p>
+ * <b>filter()</b>, <b>map()</b> and <b>slice()</b> return new pipelines and do nothing by themselves. A terminal method such as <b>find()</b> or <b>toList()</b> makes a single pass over the source list, passing each element through all the stages in turn without building intermediate lists, and stops reading the source as soon as its result is known.
+ * A pipeline can be run any number of times; every run reads the source list again.
+ * <p>
+ * Every callback receives <b>(element, index, list)</b> as with the corresponding <b>ListUtil</b> methods, where <b>index</b> is the position of the element in the input of its stage and <b>list</b> is that input.
+ * For the first stage <b>list</b> is the source list itself. For later stages it is a read-only view that computes the whole input of the stage on first access, so callbacks that only use <b>element</b> and <b>index</b> keep the pipeline lazy.
+ */
+public abstract class Lazy<T> {
+    Lazy() {
+    }
+
+    interface Sink<T> {
+        /**
+         * @return <b>false</b> if no more elements are wanted.
+         */
+        boolean push(T element);
+    }
+
+    /**
+     * Pulls the elements of a pipeline one at a time.
+     */
+    abstract static class Cursor<T> {
+        T current;
+
+        /**
+         * Moves to the next element, storing it in <b>current</b>.
+         * @return <b>false</b> if there are no more elements.
+         */
+        abstract boolean next();
+    }
+
+    /**
+     * Pushes the elements of the pipeline into <b>sink</b> until there are no more or <b>sink</b> returns <b>false</b>.
+     */
+    abstract void run(Sink<? super T> sink);
+
+    /**
+     * Starts a pass over the pipeline that reads the source only as elements are pulled.
+     */
+    abstract Cursor<T> cursor();
+
+    /**
+     * The input of a stage reading from this pipeline, as passed to its callbacks.
+     */
+    List<T> input() {
+        return new Input<>(this);
+    }
+
+    /**
+     * Adds a stage keeping only the elements that pass the test implemented by the provided function.
+     * @param predicate Predicate to test each element, taking the element, its index and the input of the stage.
+     * @return A new pipeline.
+     */
+    public Lazy<T> filter(ListUtil.Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return new Filter<>(this, predicate);
+    }
+
+    /**
+     * Adds a stage replacing each element with the result of the provided function.
+     * @param mapper Function that is called for every element, taking the element, its index and the input of the stage.
+     * @return A new pipeline.
+     */
+    public <R> Lazy<R> map(ListUtil.Mapper<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Map<>(this, mapper);
+    }
+
+    /**
+     * Adds a stage keeping the elements from <b>start</b> on.
+     * @param start Zero-based index at which to start extraction. A negative index counts from the end, which requires the input of the stage to be computed in full first.
+     * @return A new pipeline.
+     */
+    public Lazy<T> slice(int start) {
+        return new Slice<>(this, start, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds a stage keeping the elements from <b>start</b> to <b>end</b> (<b>end</b> not included). Once <b>end</b> is reached, no further element is read from the source.
+     * @param start Zero-based index at which to start extraction. A negative index counts from the end, which requires the input of the stage to be computed in full first.
+     * @param end Zero-based index before which to end extraction. A negative index counts from the end, which requires the input of the stage to be computed in full first.
+     * @return A new pipeline.
+     */
+    public Lazy<T> slice(int start, int end) {
+        return new Slice<>(this, start, end);
+    }
+
+    /**
+     * Creates a publisher of the elements of the pipeline, which are the elements <b>forEach()</b> would receive.
+     * Every subscription makes its own pass over the pipeline. It reads the source and runs the callbacks only as the subscriber requests elements, on the thread calling <b>request()</b>, and stops reading when cancelled.
+     * @return A new <b>Flow.Publisher</b>.
+     */
+    public Flow.Publisher<T> toPublisher() {
+        return new LazyPublisher<>(this);
+    }
+
+    /**
+     * Runs the pipeline and collects its elements.
+     * @return A new <b>List</b> instance.
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>();
+        run(element -> {
+            result.add(element);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Runs the pipeline, executing a provided function once for each resulting element.
+     * @param consumer Function to execute on each element, taking the element, its index and the input of the stage.
+     */
+    public void forEach(ListUtil.Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer);
+        List<T> input = input();
+        run(new Sink<T>() {
+            private int index;
+
+            @Override
+            public boolean push(T element) {
+                consumer.accept(element, index++, input);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Runs the pipeline until an element satisfies the provided testing function.
+     * @param predicate Function to execute on each element, taking the element, its index and the input of the stage.
+     * @return The first element that satisfies the function; <b>null</b> if there is none.
+     */
+    public T find(ListUtil.Predicate<? super T> predicate) {
+        return scan(predicate, true).element;
+    }
+
+    /**
+     * Runs the pipeline until an element satisfies the provided testing function.
+     * @param predicate Function to execute on each element, taking the element, its index and the input of the stage.
+     * @return The index of the first element that satisfies the function among the elements of the pipeline; <b>-1</b> if there is none.
+     */
+    public int findIndex(ListUtil.Predicate<? super T> predicate) {
+        return scan(predicate, true).found;
+    }
+
+    /**
+     * Runs the pipeline until an element passes the test implemented by the provided function.
+     * @param predicate Function to execute on each element, taking the element, its index and the input of the stage.
+     * @return <b>true</b> if the function returns <b>true</b> for at least one element. Otherwise, <b>false</b>.
+     */
+    public boolean some(ListUtil.Predicate<? super T> predicate) {
+        return scan(predicate, true).found >= 0;
+    }
+
+    /**
+     * Runs the pipeline until an element fails the test implemented by the provided function.
+     * @param predicate Function to execute on each element, taking the element, its index and the input of the stage.
+     * @return <b>true</b> if the function returns <b>true</b> for every element. Otherwise, <b>false</b>.
+     */
+    public boolean every(ListUtil.Predicate<? super T> predicate) {
+        return scan(predicate, false).found < 0;
+    }
+
+    /**
+     * Runs the pipeline, reducing its elements to a single value.
+     * @param reducer A function taking the accumulator, the element, its index and the input of the stage. The first element is used as the initial accumulator.
+     * @return The single value that results from the reduction.
+     * @throws UnsupportedOperationException If the pipeline has no elements.
+     */
+    public T reduce(ListUtil.Reducer<? super T, T> reducer) {
+        Objects.requireNonNull(reducer);
+        Fold<T, T> fold = new Fold<>(reducer, null, input(), 1);
+        run(fold);
+        if (fold.index == 0)
+            throw new UnsupportedOperationException("reduce() could not be performed with an empty list without initial value.");
+        return fold.accumulator;
+    }
+
+    /**
+     * Runs the pipeline, reducing its elements to a single value.
+     * @param reducer A function taking the accumulator, the element, its index and the input of the stage.
+     * @param initialValue A value to use as the first argument to the first call of the <b>reducer</b>.
+     * @return The single value that results from the reduction.
+     */
+    public <R> R reduce(ListUtil.Reducer<? super T, R> reducer, R initialValue) {
+        Objects.requireNonNull(reducer);
+        Fold<T, R> fold = new Fold<>(reducer, initialValue, input(), 0);
+        run(fold);
+        return fold.accumulator;
+    }
+
+    private Scan<T> scan(ListUtil.Predicate<? super T> predicate, boolean expected) {
+        Objects.requireNonNull(predicate);
+        Scan<T> scan = new Scan<>(predicate, expected, input());
+        run(scan);
+        return scan;
+    }
+
+    static final class Source<T> extends Lazy<T> {
+        private final List<T> list;
+
+        Source(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        void run(Sink<? super T> sink) {
+            ListUtil.scan(list, (element, index, list) -> sink.push(element), false);
+        }
+
+        @Override
+        Cursor<T> cursor() {
+            // The cursor is pulled between other callbacks, so it cannot hold the read lock of a ConcurrentList and reads a snapshot of it instead.
+            List<T> source = list instanceof ConcurrentList ? ((ConcurrentList<T>) list).snapshot() : list;
+            if (!Loops.indexed(source)) {
+                Iterator<T> iterator = source.iterator();
+                return new Cursor<T>() {
+                    @Override
+                    boolean next() {
+                        if (!iterator.hasNext())
+                            return false;
+                        current = iterator.next();
+                        return true;
+                    }
+                };
+            }
+            return new Cursor<T>() {
+                private int index;
+
+                @Override
+                boolean next() {
+                    if (index >= source.size())
+                        return false;
+                    current = source.get(index++);
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        List<T> input() {
+            return list;
+        }
+    }
+
+    private static final class Filter<T> extends Lazy<T> {
+        private final Lazy<T> upstream;
+        private final ListUtil.Predicate<? super T> predicate;
+
+        Filter(Lazy<T> upstream, ListUtil.Predicate<? super T> predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        void run(Sink<? super T> sink) {
+            List<T> input = upstream.input();
+            upstream.run(new Sink<T>() {
+                private int index;
+
+                @Override
+                public boolean push(T element) {
+                    return !predicate.test(element, index++, input) || sink.push(element);
+                }
+            });
+        }
+
+        @Override
+        Cursor<T> cursor() {
+            List<T> input = upstream.input();
+            Cursor<T> source = upstream.cursor();
+            return new Cursor<T>() {
+                private int index;
+
+                @Override
+                boolean next() {
+                    while (source.next())
+                        if (predicate.test(source.current, index++, input)) {
+                            current = source.current;
+                            return true;
+                        }
+                    return false;
+                }
+            };
+        }
+    }
+
+    private static final class Map<T, R> extends Lazy<R> {
+        private final Lazy<T> upstream;
+        private final ListUtil.Mapper<? super T, ? extends R> mapper;
+
+        Map(Lazy<T> upstream, ListUtil.Mapper<? super T, ? extends R> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        void run(Sink<? super R> sink) {
+            List<T> input = upstream.input();
+            upstream.run(new Sink<T>() {
+                private int index;
+
+                @Override
+                public boolean push(T element) {
+                    return sink.push(mapper.apply(element, index++, input));
+                }
+            });
+        }
+
+        @Override
+        Cursor<R> cursor() {
+            List<T> input = upstream.input();
+            Cursor<T> source = upstream.cursor();
+            return new Cursor<R>() {
+                private int index;
+
+                @Override
+                boolean next() {
+                    if (!source.next())
+                        return false;
+                    current = mapper.apply(source.current, index++, input);
+                    return true;
+                }
+            };
+        }
+    }
+
+    private static final class Slice<T> extends Lazy<T> {
+        private final Lazy<T> upstream;
+        private final int start;
+        private final int end;
+
+        Slice(Lazy<T> upstream, int start, int end) {
+            this.upstream = upstream;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        void run(Sink<? super T> sink) {
+            if (start < 0 || end < 0) {
+                for (T element : ListUtil.slice(upstream.toList(), start, end))
+                    if (!sink.push(element))
+                        return;
+                return;
+            }
+            if (end <= start)
+                return;
+            upstream.run(new Sink<T>() {
+                private int index;
+
+                @Override
+                public boolean push(T element) {
+                    int i = index++;
+                    if (i < start)
+                        return true;
+                    return sink.push(element) && i + 1 < end;
+                }
+            });
+        }
+
+        @Override
+        Cursor<T> cursor() {
+            if (start < 0 || end < 0) {
+                Iterator<T> iterator = ListUtil.slice(upstream.toList(), start, end).iterator();
+                return new Cursor<T>() {
+                    @Override
+                    boolean next() {
+                        if (!iterator.hasNext())
+                            return false;
+                        current = iterator.next();
+                        return true;
+                    }
+                };
+            }
+            Cursor<T> source = upstream.cursor();
+            return new Cursor<T>() {
+                private int index;
+
+                @Override
+                boolean next() {
+                    for (; index < start; index++)
+                        if (!source.next())
+                            return false;
+                    if (index >= end || !source.next())
+                        return false;
+                    index++;
+                    current = source.current;
+                    return true;
+                }
+            };
+        }
+    }
+
+    private static final class Scan<T> implements Sink<T> {
+        private final ListUtil.Predicate<? super T> predicate;
+        private final boolean expected;
+        private final List<T> input;
+        private int index;
+        int found = -1;
+        T element;
+
+        Scan(ListUtil.Predicate<? super T> predicate, boolean expected, List<T> input) {
+            this.predicate = predicate;
+            this.expected = expected;
+            this.input = input;
+        }
+
+        @Override
+        public boolean push(T element) {
+            int i = index++;
+            if (predicate.test(element, i, input) != expected)
+                return true;
+            found = i;
+            this.element = element;
+            return false;
+        }
+    }
+
+    private static final class Fold<T, R> implements Sink<T> {
+        private final ListUtil.Reducer<? super T, R> reducer;
+        private final List<T> input;
+        private final int first;
+        int index;
+        R accumulator;
+
+        /**
+         * @param first <b>1</b> if the first element is the initial accumulator, otherwise <b>0</b>.
+         */
+        Fold(ListUtil.Reducer<? super T, R> reducer, R initialValue, List<T> input, int first) {
+            this.reducer = reducer;
+            this.accumulator = initialValue;
+            this.input = input;
+            this.first = first;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean push(T element) {
+            int i = index++;
+            if (i < first)
+                accumulator = (R) element;
+            else
+                accumulator = reducer.apply(accumulator, element, i, input);
+            return true;
+        }
+    }
+
+    /**
+     * Read-only view of the elements of a pipeline, computed on first access.
+     */
+    private static final class Input<T> extends AbstractList<T> implements RandomAccess {
+        private final Lazy<T> pipeline;
+        private List<T> elements;
+
+        Input(Lazy<T> pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        private List<T> elements() {
+            if (elements == null)
+                elements = pipeline.toList();
+            return elements;
+        }
+
+        @Override
+        public T get(int index) {
+            return elements().get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements().size();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the elements of a <b>Lazy</b> pipeline, pulling them from a cursor as the subscriber requests them.
+ */
+final class LazyPublisher<T> implements Flow.Publisher<T> {
+    private final Lazy<T> pipeline;
+
+    LazyPublisher(Lazy<T> pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        Emitter<T> emitter = new Emitter<>(pipeline, subscriber);
+        subscriber.onSubscribe(emitter);
+    }
+
+    /**
+     * Every signal to the subscriber, including the error for an invalid request, is sent from a single emission loop, run by whichever thread finds it idle.
+     * Other threads only record their request or cancellation and leave it for the running loop, so the signals are serialized and a subscriber requesting from <b>onNext</b> does not recurse.
+     */
+    private static final class Emitter<T> implements Flow.Subscription {
+        private final Lazy<T> pipeline;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // Number of request() and cancel() calls to serve; only the call raising it from 0 runs the loop, serving the others before it leaves.
+        private final AtomicInteger wip = new AtomicInteger();
+        private Lazy.Cursor<T> cursor;
+        private volatile boolean cancelled;
+        private volatile Throwable invalid;
+        private boolean done;
+
+        Emitter(Lazy<T> pipeline, Flow.Subscriber<? super T> subscriber) {
+            this.pipeline = pipeline;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled)
+                return;
+            if (n <= 0) {
+                if (invalid == null)
+                    invalid = new IllegalArgumentException("Non-positive request: " + n);
+            } else
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            do {
+                emit();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Emits elements while there is demand, and ends the subscription once it is cancelled, invalid or exhausted.
+         */
+        private void emit() {
+            while (!done) {
+                if (cancelled) {
+                    end();
+                    return;
+                }
+                Throwable error = invalid;
+                if (error != null) {
+                    end();
+                    subscriber.onError(error);
+                    return;
+                }
+                if (demand.get() == 0)
+                    return;
+                T element;
+                try {
+                    if (cursor == null)
+                        cursor = pipeline.cursor();
+                    if (!cursor.next()) {
+                        end();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    element = cursor.current;
+                } catch (Throwable e) {
+                    end();
+                    subscriber.onError(e);
+                    return;
+                }
+                if (demand.get() != Long.MAX_VALUE)
+                    demand.decrementAndGet();
+                try {
+                    subscriber.onNext(element);
+                } catch (Throwable e) {
+                    // The exception propagates to the caller of request(), and the loop is released so that the next request() runs it again rather than finding it busy for good.
+                    wip.set(0);
+                    throw e;
+                }
+            }
+        }
+
+        private void end() {
+            done = true;
+            cursor = null;
+        }
+    }
+}
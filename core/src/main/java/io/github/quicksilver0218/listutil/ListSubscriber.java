@@ -0,0 +1,140 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A subscriber collecting the elements it receives into a list.
+ * It requests at most <b>bufferSize</b> elements at a time and appends them to the list with <b>ListUtil.push</b> once the buffer is full, so the publisher never gets ahead by more than one buffer.
+ * With a <b>ConcurrentList</b> as the target, other threads can read the collected elements while the subscription runs.
+ * <b>cancel()</b> may be called from any thread: it never touches the buffer while a signal does, and the signal in progress completes the cancellation instead.
+ */
+public class ListSubscriber<T> implements Flow.Subscriber<T> {
+    private final List<T> target;
+    private final Object[] buffer;
+    private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+    // Number of signals and cancel() calls entered; only the one raising it from 0 runs, and it completes a cancellation that arrived meanwhile before it leaves.
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile Flow.Subscription subscription;
+    private volatile boolean cancelled;
+    private int count;
+
+    /**
+     * Creates a subscriber collecting into a new <b>ArrayList</b>.
+     * @param bufferSize Number of elements requested and appended at a time.
+     */
+    public ListSubscriber(int bufferSize) {
+        this(new ArrayList<>(), bufferSize);
+    }
+
+    /**
+     * Creates a subscriber collecting into a list.
+     * @param target List the elements are appended to.
+     * @param bufferSize Number of elements requested and appended at a time.
+     */
+    public ListSubscriber(List<T> target, int bufferSize) {
+        if (bufferSize < 1)
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        this.target = Objects.requireNonNull(target);
+        this.buffer = new Object[bufferSize];
+    }
+
+    /**
+     * @return A future of the target list, completing when the publisher completes, or failing when it fails.
+     */
+    public CompletableFuture<List<T>> getResult() {
+        return result;
+    }
+
+    /**
+     * Cancels the subscription. The elements received so far are appended to the target list, and the result completes with it.
+     */
+    public void cancel() {
+        cancelled = true;
+        Flow.Subscription subscription = this.subscription;
+        if (subscription != null)
+            subscription.cancel();
+        if (wip.getAndIncrement() == 0)
+            leave();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (this.subscription != null || result.isDone()) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        // A cancel() racing this call may not have seen the subscription.
+        if (cancelled)
+            subscription.cancel();
+        else
+            subscription.request(buffer.length);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (wip.getAndIncrement() != 0)
+            return;
+        boolean full = false;
+        if (!cancelled && !result.isDone()) {
+            buffer[count++] = item;
+            if (count == buffer.length) {
+                flush();
+                full = true;
+            }
+        }
+        leave();
+        // Requested after leaving, so that a publisher emitting from request() enters onNext again rather than finding it busy.
+        if (full)
+            subscription.request(buffer.length);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (wip.getAndIncrement() != 0)
+            return;
+        flush();
+        result.completeExceptionally(throwable);
+        leave();
+    }
+
+    @Override
+    public void onComplete() {
+        if (wip.getAndIncrement() != 0)
+            return;
+        flush();
+        result.complete(target);
+        leave();
+    }
+
+    /**
+     * Leaves a signal or <b>cancel()</b>, appending the buffered elements and completing the result if the subscription was cancelled before or meanwhile.
+     */
+    private void leave() {
+        int missed = 1;
+        do {
+            if (cancelled) {
+                flush();
+                result.complete(target);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        if (count == 0 || result.isDone())
+            return;
+        ListUtil.push(target, (T[]) (count == buffer.length ? buffer : Arrays.copyOf(buffer, count)));
+        Arrays.fill(buffer, 0, count, null);
+        count = 0;
+    }
+}
@@ -0,0 +1,3186 @@
+package io.github.quicksilver0218.listutil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * The methods are implemented referring to the methods of Array in ECMAScript.
+ */
+public enum ListUtil {;
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    private static final Comparator<Object> STRING_ORDER = (o1, o2) -> ((String) o1).compareTo((String) o2);
+    private static final Set<Class<?>> SYNCHRONIZED_LISTS = Set.of(
+            Collections.synchronizedList(new ArrayList<>()).getClass(), Collections.synchronizedList(new LinkedList<>()).getClass());
+    private static final Comparator<Keyed> KEYED_ORDER = Comparator.comparing(keyed -> keyed.key, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    public interface Predicate<T> {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return <b>true</b> if the input arguments matches the predicate, otherwise <b>false</b>
+         */
+        boolean test(T element, int index, List<? extends T> list);
+    }
+
+    public interface Consumer<T> {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         */
+        void accept(T element, int index, List<? extends T> list);
+    }
+
+    public interface Mapper<T, R> {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return The new object.
+         */
+        R apply(T element, int index, List<? extends T> list);
+    }
+
+    public interface ToIntMapper<T> {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return The <b>int</b> value of the element.
+         */
+        int apply(T element, int index, List<? extends T> list);
+    }
+
+    public interface Reducer<T, R> {
+        /**
+         * @param accumulator The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback—or <b>initialValue</b>, if it was supplied.
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list. Starts from index <b>0</b> if an <b>initialValue</b> is provided. Otherwise, it starts from index <b>1</b>.
+         * @param list The list the outer method was called upon.
+         * @return The new accumulator value.
+         */
+        R apply(R accumulator, T element, int index, List<? extends T> list);
+    }
+
+    public interface BatchConsumer<T> {
+        /**
+         * @param batch The current batch, a contiguous run of elements of the list. It is only valid during the call, since it is reused for the next batch.
+         * @param startIndex The index in the list of the first element of the batch.
+         * @param list The list the outer method was called upon.
+         */
+        void accept(List<? extends T> batch, int startIndex, List<? extends T> list);
+    }
+
+    public interface BatchMapper<T, R> {
+        /**
+         * @param batch The current batch, a contiguous run of elements of the list. It is only valid during the call, since it is reused for the next batch.
+         * @param startIndex The index in the list of the first element of the batch.
+         * @param list The list the outer method was called upon.
+         * @return The new elements, one for every element of <b>batch</b> and in the same order.
+         */
+        List<? extends R> apply(List<? extends T> batch, int startIndex, List<? extends T> list);
+    }
+
+    public interface IntPredicate {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return <b>true</b> if the input arguments matches the predicate, otherwise <b>false</b>
+         */
+        boolean test(int element, int index, IntList list);
+    }
+
+    public interface IntMapper {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return The new element.
+         */
+        int apply(int element, int index, IntList list);
+    }
+
+    public interface IntReducer {
+        /**
+         * @param accumulator The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback—or <b>initialValue</b>, if it was supplied.
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list. Starts from index <b>0</b> if an <b>initialValue</b> is provided. Otherwise, it starts from index <b>1</b>.
+         * @param list The list the outer method was called upon.
+         * @return The new accumulator value.
+         */
+        int apply(int accumulator, int element, int index, IntList list);
+    }
+
+    public interface LongPredicate {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return <b>true</b> if the input arguments matches the predicate, otherwise <b>false</b>
+         */
+        boolean test(long element, int index, LongList list);
+    }
+
+    public interface LongMapper {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return The new element.
+         */
+        long apply(long element, int index, LongList list);
+    }
+
+    public interface LongReducer {
+        /**
+         * @param accumulator The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback—or <b>initialValue</b>, if it was supplied.
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list. Starts from index <b>0</b> if an <b>initialValue</b> is provided. Otherwise, it starts from index <b>1</b>.
+         * @param list The list the outer method was called upon.
+         * @return The new accumulator value.
+         */
+        long apply(long accumulator, long element, int index, LongList list);
+    }
+
+    public interface DoublePredicate {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return <b>true</b> if the input arguments matches the predicate, otherwise <b>false</b>
+         */
+        boolean test(double element, int index, DoubleList list);
+    }
+
+    public interface DoubleMapper {
+        /**
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list.
+         * @param list The list the outer method was called upon.
+         * @return The new element.
+         */
+        double apply(double element, int index, DoubleList list);
+    }
+
+    public interface DoubleReducer {
+        /**
+         * @param accumulator The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback—or <b>initialValue</b>, if it was supplied.
+         * @param element The current element being processed in the list.
+         * @param index The index of the current element being processed in the list. Starts from index <b>0</b> if an <b>initialValue</b> is provided. Otherwise, it starts from index <b>1</b>.
+         * @param list The list the outer method was called upon.
+         * @return The new accumulator value.
+         */
+        double apply(double accumulator, double element, int index, DoubleList list);
+    }
+
+    /**
+     * Returns the element at an index, counting back from the end of the list for negative indices.
+     * @param list Source list.
+     * @param index Zero-based index of the element. If index is negative, it is treated as <b>list.size() + index</b>.
+     * @return The element at <b>index</b>; <b>null</b> if it is out of range.
+     */
+    public static <T> T at(List<T> list, int index) {
+        int size = list.size();
+        if (index < 0)
+            index += size;
+        if (index < 0 || index >= size)
+            return null;
+        Probe.checkAccess("at", list);
+        return list.get(index);
+    }
+
+    /**
+     * Used to merge two or more lists. This method does not change the existing lists, but instead returns a new list.
+     * @param list List to be concatenated
+     * @param lists Lists to concatenate into a new list. If this parameter is omitted, concat returns a shallow copy of the existing list on which it is called.
+     * @return A new <b>List</b> instance. If <b>list</b> is an <b>OffHeapList</b>, a new <b>OffHeapList</b> with the same codec, which must be closed. If <b>list</b> is a <b>PersistentVector</b>, a new <b>PersistentVector</b> sharing structure with it and with any <b>PersistentVector</b> in <b>lists</b>.
+     */
+    @SafeVarargs
+    public static <T> List<T> concat(List<T> list, Collection<? extends T>... lists) {
+        if (list instanceof PersistentVector) {
+            PersistentVector<T> result = (PersistentVector<T>) list;
+            for (Collection<? extends T> l : lists)
+                result = result.concat(l);
+            return result;
+        }
+        if (list instanceof OffHeapList) {
+            OffHeapList<T> source = (OffHeapList<T>) list;
+            long size = source.size();
+            for (Collection<? extends T> l : lists)
+                size += l.size();
+            OffHeapList<T> result = new OffHeapList<>(source.codec, (int) Math.min(size, Integer.MAX_VALUE));
+            result.append(source);
+            for (Collection<? extends T> l : lists)
+                if (l instanceof RecordList && ((RecordList<?>) l).codec == source.codec)
+                    result.append((RecordList<? extends T>) l);
+                else
+                    result.addAll(l);
+            return result;
+        }
+        int size = list.size();
+        for (Collection<? extends T> l : lists)
+            size += l.size();
+        List<T> result = new ArrayList<>(size);
+        append(result, list);
+        for (Collection<? extends T> l : lists)
+            append(result, l);
+        return result;
+    }
+
+    /**
+     * Used to append two or more elements into a list. This method does not change the existing lists, but instead returns a new list.
+     * @param list List to be concatenated
+     * @param items Values to concatenate into a new list. If this parameter is omitted, concat returns a shallow copy of the existing list on which it is called.
+     * @return A new <b>List</b> instance. If <b>list</b> is an <b>OffHeapList</b>, a new <b>OffHeapList</b> with the same codec, which must be closed. If <b>list</b> is a <b>PersistentVector</b>, a new <b>PersistentVector</b> sharing structure with it.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> List<T> concat(List<T> list, T... items) {
+        if (list instanceof PersistentVector)
+            return ((PersistentVector<T>) list).concat(Arrays.asList(items));
+        if (list instanceof OffHeapList) {
+            OffHeapList<T> source = (OffHeapList<T>) list;
+            OffHeapList<T> result = new OffHeapList<>(source.codec, (int) Math.min((long) source.size() + items.length, Integer.MAX_VALUE));
+            result.append(source);
+            result.addAll(Arrays.asList(items));
+            return result;
+        }
+        List<T> result = new ArrayList<>(list.size() + items.length);
+        append(result, list);
+        Collections.addAll(result, items);
+        return result;
+    }
+
+    /**
+     * Shallow copies part of a list, from a start index (default <b>0</b>) to an end index (default <b>list.size()</b>), to another location in the same list and returns it without modifying its size.
+     * @param list List to be modified.
+     * @param target Zero-based index at which to copy the sequence to. If negative, <b>target</b> will be counted from the end.
+     * @return The modified list.
+     */
+    public static <T> List<T> copyWithin(List<T> list, int target) {
+        Objects.requireNonNull(list);
+        return copyWithin(list, target, 0, list.size());
+    }
+
+    /**
+     * Shallow copies part of a list, from a start index (default <b>0</b>) to an end index (default <b>list.size()</b>), to another location in the same list and returns it without modifying its size.
+     * @param list List to be modified.
+     * @param target Zero-based index at which to copy the sequence to. If negative, <b>target</b> will be counted from the end.
+     * @param start Zero-based index at which to start copying elements from. If negative, <b>start</b> will be counted from the end.
+     * @return The modified list.
+     */
+    public static <T> List<T> copyWithin(List<T> list, int target, int start) {
+        Objects.requireNonNull(list);
+        return copyWithin(list, target, start, list.size());
+    }
+
+    /**
+     * Shallow copies part of a list, from a start index (default <b>0</b>) to an end index (default <b>list.size()</b>), to another location in the same list and returns it without modifying its size.
+     * @param list List to be modified.
+     * @param target Zero-based index at which to copy the sequence to. If negative, <b>target</b> will be counted from the end.
+     * @param start Zero-based index at which to start copying elements from. If negative, <b>start</b> will be counted from the end.
+     * @param end Zero-based index at which to end copying elements from. copyWithin copies up to but not including <b>end</b>. If negative, <b>end</b> will be counted from the end.
+     * @return The modified list.
+     */
+    public static <T> List<T> copyWithin(List<T> list, int target, int start, int end) {
+        if (list instanceof ConcurrentList) {
+            int to = target, from = start, until = end;
+            ((ConcurrentList<T>) list).update(l -> copyWithin(l, to, from, until));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        int size = list.size();
+        if (target < 0) {
+            target += size;
+            if (target < 0)
+                target = 0;
+        } else if (target >= size)
+            return list;
+        if (start < 0) {
+            start += size;
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += size;
+        else if (end > size)
+            end = size;
+        if (end <= start || target == start)
+            return list;
+        int count = Math.min(end - start, size - target);
+        if (list instanceof RecordList)
+            ((RecordList<T>) list).move(start, target, count);
+        else if (list instanceof GapBufferList)
+            ((GapBufferList<T>) list).move(start, target, count);
+        else if (list instanceof RingBufferList)
+            ((RingBufferList<T>) list).move(start, target, count);
+        else if (list instanceof IndexedList)
+            ((IndexedList<T>) list).move(start, target, count);
+        else if (!(list instanceof RandomAccess))
+            // The copy makes overlapping ranges safe, so both ranges can be walked forward by iterators.
+            setAll(list.subList(target, target + count), list.subList(start, start + count).toArray());
+        else if (start > target)
+            for (int i = 0; i < count; i++)
+                list.set(target + i, list.get(start + i));
+        else
+            for (int i = count - 1; i >= 0; i--)
+                list.set(target + i, list.get(start + i));
+        return list;
+    }
+
+    /**
+     * Tests whether all elements in the list pass the test implemented by the provided function. It returns a <b>Boolean</b> value.
+     * @param list List under test.
+     * @param predicate A function to test for each element, taking three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>every()</b> was called upon.</li>
+     * </ul>
+     * @return <b>true</b> if the predicate function returns a truthy value for every list element. Otherwise, <b>false</b>.
+     */
+    public static <T> boolean every(List<T> list, Predicate<? super T> predicate) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("every", list);
+        if (probe == null)
+            return scan(list, predicate, false) < 0;
+        int index = scan(list, probe.wrapPredicate(predicate), false);
+        probe.finish(index, -1);
+        return index < 0;
+    }
+
+    /**
+     * Changes all elements in a list to a static value, from a start index (default <b>0</b>) to an end index (default <b>list.size()</b>). It returns the modified list.
+     * @param list List to be modified.
+     * @param item Item to fill the list with. (Note all elements in the list will be this exact item.)
+     * @return The modified list, filled with item.
+     */
+    public static <T> List<T> fill(List<T> list, T item) {
+        if (list instanceof ConcurrentList) {
+            ((ConcurrentList<T>) list).update(l -> fill(l, item));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        return fill(list, item, 0, list.size());
+    }
+
+    /**
+     * Changes all elements in a list to a static value, from a start index (default <b>0</b>) to an end index (default <b>list.size()</b>). It returns the modified list.
+     * @param list List to be modified.
+     * @param item Item to fill the list with. (Note all elements in the list will be this exact item.)
+     * @param start Start index, default <b>0</b>. If start is negative, it is treated as <b>list.size() + start</b>.
+     * @return The modified list, filled with item.
+     */
+    public static <T> List<T> fill(List<T> list, T item, int start) {
+        if (list instanceof ConcurrentList) {
+            int from = start;
+            ((ConcurrentList<T>) list).update(l -> fill(l, item, from));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        return fill(list, item, start, list.size());
+    }
+
+    /**
+     * Changes all elements in a list to a static value, from a start index (default <b>0</b>) to an end index (default <b>list.size()</b>). It returns the modified list.
+     * @param list List to be modified.
+     * @param item Item to fill the list with. (Note all elements in the list will be this exact item.)
+     * @param start Start index, default <b>0</b>. If start is negative, it is treated as <b>list.size() + start</b>
+     * @param end End index, default <b>list.size()</b>. If end is negative, it is treated as <b>list.size() + end</b>.
+     * @return The modified list, filled with <b>item</b>.
+     */
+    public static <T> List<T> fill(List<T> list, T item, int start, int end) {
+        if (list instanceof ConcurrentList) {
+            int from = start, until = end;
+            ((ConcurrentList<T>) list).update(l -> fill(l, item, from, until));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        if (start < 0) {
+            start += list.size();
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += list.size();
+        else if (end > list.size())
+            end = list.size();
+        if (end <= start)
+            return list;
+        if (list instanceof RecordList)
+            ((RecordList<T>) list).fill(start, end, item);
+        else if (list instanceof GapBufferList)
+            ((GapBufferList<T>) list).fill(start, end, item);
+        else if (list instanceof RingBufferList)
+            ((RingBufferList<T>) list).fill(start, end, item);
+        else if (list instanceof IndexedList)
+            ((IndexedList<T>) list).fill(start, end, item);
+        else if (end - start == list.size())
+            // Writes straight into the array of ArrayList, Arrays.asList, Vector and CopyOnWriteArrayList, and goes through a ListIterator otherwise.
+            list.replaceAll(element -> item);
+        else if (list instanceof RandomAccess)
+            for (int i = start; i < end; i++)
+                list.set(i, item);
+        else
+            list.subList(start, end).replaceAll(element -> item);
+        return list;
+    }
+
+    /**
+     * Changes all elements in a <b>IntList</b> to a static value. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @return The modified list, filled with item.
+     */
+    public static IntList fill(IntList list, int item) {
+        Arrays.fill(list.elements, 0, list.size, item);
+        return list;
+    }
+
+    /**
+     * Changes all elements in a <b>IntList</b> to a static value, from a start index to the end of the list. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @param start Start index. If start is negative, it is treated as <b>list.size() + start</b>.
+     * @return The modified list, filled with item.
+     */
+    public static IntList fill(IntList list, int item, int start) {
+        return fill(list, item, start, list.size);
+    }
+
+    /**
+     * Changes all elements in a <b>IntList</b> to a static value, from a start index to an end index. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @param start Start index. If start is negative, it is treated as <b>list.size() + start</b>
+     * @param end End index. If end is negative, it is treated as <b>list.size() + end</b>.
+     * @return The modified list, filled with <b>item</b>.
+     */
+    public static IntList fill(IntList list, int item, int start, int end) {
+        if (start < 0) {
+            start += list.size;
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += list.size;
+        else if (end > list.size)
+            end = list.size;
+        if (end > start)
+            Arrays.fill(list.elements, start, end, item);
+        return list;
+    }
+
+    /**
+     * Changes all elements in a <b>LongList</b> to a static value. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @return The modified list, filled with item.
+     */
+    public static LongList fill(LongList list, long item) {
+        Arrays.fill(list.elements, 0, list.size, item);
+        return list;
+    }
+
+    /**
+     * Changes all elements in a <b>LongList</b> to a static value, from a start index to the end of the list. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @param start Start index. If start is negative, it is treated as <b>list.size() + start</b>.
+     * @return The modified list, filled with item.
+     */
+    public static LongList fill(LongList list, long item, int start) {
+        return fill(list, item, start, list.size);
+    }
+
+    /**
+     * Changes all elements in a <b>LongList</b> to a static value, from a start index to an end index. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @param start Start index. If start is negative, it is treated as <b>list.size() + start</b>
+     * @param end End index. If end is negative, it is treated as <b>list.size() + end</b>.
+     * @return The modified list, filled with <b>item</b>.
+     */
+    public static LongList fill(LongList list, long item, int start, int end) {
+        if (start < 0) {
+            start += list.size;
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += list.size;
+        else if (end > list.size)
+            end = list.size;
+        if (end > start)
+            Arrays.fill(list.elements, start, end, item);
+        return list;
+    }
+
+    /**
+     * Changes all elements in a <b>DoubleList</b> to a static value. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @return The modified list, filled with item.
+     */
+    public static DoubleList fill(DoubleList list, double item) {
+        Arrays.fill(list.elements, 0, list.size, item);
+        return list;
+    }
+
+    /**
+     * Changes all elements in a <b>DoubleList</b> to a static value, from a start index to the end of the list. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @param start Start index. If start is negative, it is treated as <b>list.size() + start</b>.
+     * @return The modified list, filled with item.
+     */
+    public static DoubleList fill(DoubleList list, double item, int start) {
+        return fill(list, item, start, list.size);
+    }
+
+    /**
+     * Changes all elements in a <b>DoubleList</b> to a static value, from a start index to an end index. It returns the modified list.
+     * @param list List to be modified.
+     * @param item Value to fill the list with.
+     * @param start Start index. If start is negative, it is treated as <b>list.size() + start</b>
+     * @param end End index. If end is negative, it is treated as <b>list.size() + end</b>.
+     * @return The modified list, filled with <b>item</b>.
+     */
+    public static DoubleList fill(DoubleList list, double item, int start, int end) {
+        if (start < 0) {
+            start += list.size;
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += list.size;
+        else if (end > list.size)
+            end = list.size;
+        if (end > start)
+            Arrays.fill(list.elements, start, end, item);
+        return list;
+    }
+
+    /**
+     * Creates a new list with all elements that pass the test implemented by the provided function.
+     * @param list List to be filtered.
+     * @param predicate Predicate to test each element of the array. Return a value that coerces to <b>true</b> to keep the element, or to <b>false</b> otherwise. It accepts three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>filter()</b> was called upon.</li>
+     * </ul>
+     * @return A new <b>List</b> instance with the elements that pass the test. If no elements pass the test, an empty array will be returned.
+     */
+    public static <T> List<T> filter(List<T> list, Predicate<? super T> predicate) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("filter", list);
+        Predicate<? super T> test = probe == null ? predicate : probe.wrapPredicate(predicate);
+        List<T> result = guarded(list)
+                ? locked(list, elements -> Specialization.loops(test).filter(elements, list, test))
+                : Specialization.loops(test).filter(list, list, test);
+        if (probe != null)
+            probe.finish(-1, result.size());
+        return result;
+    }
+
+    /**
+     * Creates a new <b>IntList</b> with all elements that pass the test implemented by the provided function.
+     * @param list List to be filtered.
+     * @param predicate Predicate to test each element of the list, taking the element, its index and <b>list</b>.
+     * @return A new <b>IntList</b> instance with the elements that pass the test.
+     */
+    public static IntList filter(IntList list, IntPredicate predicate) {
+        BitSet kept = new BitSet(list.size);
+        int count = 0;
+        for (int i = 0; i < list.size; i++)
+            if (predicate.test(list.elements[i], i, list)) {
+                kept.set(i);
+                count++;
+            }
+        IntList result = new IntList(count);
+        for (int i = kept.nextSetBit(0); i >= 0 && i < list.size; i = kept.nextSetBit(i + 1))
+            result.add(list.elements[i]);
+        return result;
+    }
+
+    /**
+     * Creates a new <b>LongList</b> with all elements that pass the test implemented by the provided function.
+     * @param list List to be filtered.
+     * @param predicate Predicate to test each element of the list, taking the element, its index and <b>list</b>.
+     * @return A new <b>LongList</b> instance with the elements that pass the test.
+     */
+    public static LongList filter(LongList list, LongPredicate predicate) {
+        BitSet kept = new BitSet(list.size);
+        int count = 0;
+        for (int i = 0; i < list.size; i++)
+            if (predicate.test(list.elements[i], i, list)) {
+                kept.set(i);
+                count++;
+            }
+        LongList result = new LongList(count);
+        for (int i = kept.nextSetBit(0); i >= 0 && i < list.size; i = kept.nextSetBit(i + 1))
+            result.add(list.elements[i]);
+        return result;
+    }
+
+    /**
+     * Creates a new <b>DoubleList</b> with all elements that pass the test implemented by the provided function.
+     * @param list List to be filtered.
+     * @param predicate Predicate to test each element of the list, taking the element, its index and <b>list</b>.
+     * @return A new <b>DoubleList</b> instance with the elements that pass the test.
+     */
+    public static DoubleList filter(DoubleList list, DoublePredicate predicate) {
+        BitSet kept = new BitSet(list.size);
+        int count = 0;
+        for (int i = 0; i < list.size; i++)
+            if (predicate.test(list.elements[i], i, list)) {
+                kept.set(i);
+                count++;
+            }
+        DoubleList result = new DoubleList(count);
+        for (int i = kept.nextSetBit(0); i >= 0 && i < list.size; i = kept.nextSetBit(i + 1))
+            result.add(list.elements[i]);
+        return result;
+    }
+
+    /**
+     * Asynchronously creates a new list with all elements that pass the test implemented by the provided function, in their original order.
+     * The callbacks run concurrently on virtual threads where the runtime supports them, otherwise on a shared pool of daemon threads, so they must be thread-safe. They are meant for blocking work such as I/O.
+     * Cancelling the returned future, or the timeout elapsing, interrupts the running callbacks and starts no more.
+     * @param list List to be filtered. The elements are copied when the method is called, so later changes to it do not affect the result.
+     * @param predicate Predicate to test each element of the list, taking the element, its index and <b>list</b>.
+     * @param concurrency Maximum number of callbacks running at the same time.
+     * @return A future of a new list with the elements that pass the test. It fails with a <b>PartialResultException</b> holding the completed results if any callback throws.
+     */
+    public static <T> CompletableFuture<List<T>> filterAsync(List<T> list, Predicate<? super T> predicate, int concurrency) {
+        return filterAsync(list, predicate, concurrency, null);
+    }
+
+    /**
+     * Asynchronously creates a new list with all elements that pass the test implemented by the provided function, in their original order.
+     * The callbacks run concurrently on virtual threads where the runtime supports them, otherwise on a shared pool of daemon threads, so they must be thread-safe. They are meant for blocking work such as I/O.
+     * Cancelling the returned future, or the timeout elapsing, interrupts the running callbacks and starts no more.
+     * @param list List to be filtered. The elements are copied when the method is called, so later changes to it do not affect the result.
+     * @param predicate Predicate to test each element of the list, taking the element, its index and <b>list</b>.
+     * @param concurrency Maximum number of callbacks running at the same time.
+     * @param timeout Maximum time to wait for all callbacks, or <b>null</b> to wait indefinitely.
+     * @return A future of a new list with the elements that pass the test. It fails with a <b>PartialResultException</b> holding the completed results if any callback throws or the timeout elapses.
+     */
+    public static <T> CompletableFuture<List<T>> filterAsync(List<T> list, Predicate<? super T> predicate, int concurrency, Duration timeout) {
+        Objects.requireNonNull(predicate);
+        List<T> source = copy(list);
+        return Async.run(source, list, concurrency, timeout, predicate::test, results -> {
+            List<T> result = new ArrayList<>();
+            for (int i = 0; i < results.length; i++)
+                if ((Boolean) results[i])
+                    result.add(source.get(i));
+            return result;
+        });
+    }
+
+    /**
+     * Returns the value of the first element in the provided list that satisfies the provided testing function. If no values satisfy the testing function, <b>null</b> is returned.
+     * @param list List under search.
+     * @param predicate Function to execute on each value in the array, taking 3 arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>find()</b> was called upon.</li>
+     * </ul>
+     * @return The value of the first element in the list that satisfies the provided testing function. Otherwise, <b>null</b> is returned.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T find(List<T> list, Predicate<? super T> predicate) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("find", list);
+        Predicate<? super T> test = probe == null ? predicate : probe.wrapPredicate(predicate);
+        Object element = guarded(list)
+                ? locked(list, elements -> Specialization.loops(test).find(elements, list, test))
+                : Specialization.loops(test).find(list, list, test);
+        if (probe != null)
+            probe.finish(element == Loops.NONE ? -1 : probe.lastIndex(), -1);
+        return element == Loops.NONE ? null : (T) element;
+    }
+
+    /**
+     * Returns the index of the first element in the list that satisfies the provided testing function. Otherwise, it returns <b>-1</b>, indicating that no element passed the test.
+     * @param list List under search.
+     * @param predicate A function to execute on each value in the array until the function returns true, indicating that the satisfying element was found. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>findIndex()</b> was called upon.</li>
+     * </ul>
+     * @return The index of the first element in the list that passes the test. Otherwise, <b>-1</b>.
+     */
+    public static <T> int findIndex(List<T> list, Predicate<? super T> predicate) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("findIndex", list);
+        if (probe == null)
+            return scan(list, predicate, true);
+        int index = scan(list, probe.wrapPredicate(predicate), true);
+        probe.finish(index, -1);
+        return index;
+    }
+
+    /**
+     * Returns the value of the last element in the provided list that satisfies the provided testing function, scanning backwards. If no values satisfy the testing function, <b>null</b> is returned.
+     * @param list List under search.
+     * @param predicate Function to execute on each value in the array, from the last, taking 3 arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>findLast()</b> was called upon.</li>
+     * </ul>
+     * @return The value of the last element in the list that satisfies the provided testing function. Otherwise, <b>null</b> is returned.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T findLast(List<T> list, Predicate<? super T> predicate) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("findLast", list);
+        Predicate<? super T> test = probe == null ? predicate : probe.wrapPredicate(predicate);
+        Object element = guarded(list)
+                ? locked(list, elements -> Specialization.loops(test).findLast(elements, list, test))
+                : Specialization.loops(test).findLast(list, list, test);
+        if (probe != null)
+            probe.finish(element == Loops.NONE ? -1 : probe.lastIndex(), -1);
+        return element == Loops.NONE ? null : (T) element;
+    }
+
+    /**
+     * Returns the index of the last element in the list that satisfies the provided testing function, scanning backwards. Otherwise, it returns <b>-1</b>, indicating that no element passed the test.
+     * @param list List under search.
+     * @param predicate A function to execute on each value in the array, from the last, until the function returns true. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>findLastIndex()</b> was called upon.</li>
+     * </ul>
+     * @return The index of the last element in the list that passes the test. Otherwise, <b>-1</b>.
+     */
+    public static <T> int findLastIndex(List<T> list, Predicate<? super T> predicate) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("findLastIndex", list);
+        if (probe == null)
+            return scanRight(list, predicate);
+        int index = scanRight(list, probe.wrapPredicate(predicate));
+        probe.finish(index, -1);
+        return index;
+    }
+
+    /**
+     * Creates a new list with the elements of the sub-lists concatenated into it, one level deep.
+     * @param list List of collections to be flattened.
+     * @return A new list, sized to the total number of elements.
+     */
+    public static <T> List<T> flat(List<? extends Collection<? extends T>> list) {
+        if (guarded(list))
+            return locked(list, ListUtil::flat);
+        int size = 0;
+        for (Collection<? extends T> collection : list)
+            size += collection.size();
+        List<T> result = new ArrayList<>(size);
+        for (Collection<? extends T> collection : list)
+            result.addAll(collection);
+        return result;
+    }
+
+    /**
+     * Calls a mapper function on each element of the list, and concatenates the resulting collections into a new list, one level deep.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every element of <b>list</b>, returning a collection of new elements. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>flatMap()</b> was called upon.</li>
+     * </ul>
+     * @return A new list, sized to the total number of elements returned by the mapper.
+     */
+    public static <T, R> List<R> flatMap(List<T> list, Mapper<? super T, ? extends Collection<? extends R>> mapper) {
+        List<Collection<? extends R>> mapped = new ArrayList<>(list.size());
+        Probe probe = Probe.start("flatMap", list);
+        Mapper<? super T, ? extends Collection<? extends R>> function = probe == null ? mapper : probe.wrapMapper(mapper);
+        walk(list, list, (element, index, list1) -> mapped.add(function.apply(element, index, list1)));
+        int size = 0;
+        for (Collection<? extends R> collection : mapped)
+            size += collection.size();
+        List<R> result = new ArrayList<>(size);
+        for (Collection<? extends R> collection : mapped)
+            result.addAll(collection);
+        if (probe != null)
+            probe.finish(-1, size);
+        return result;
+    }
+
+    /**
+     * Executes a provided function once for each list element.
+     * @param list List to be iterated.
+     * @param consumer Function to execute on each element. It accepts three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>forEach()</b> was called upon.</li>
+     * </ul>
+     */
+    public static <T> void forEach(List<T> list, Consumer<? super T> consumer) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("forEach", list);
+        if (probe == null) {
+            walk(list, list, consumer);
+            return;
+        }
+        walk(list, list, probe.wrapConsumer(consumer));
+        probe.finish(-1, -1);
+    }
+
+    /**
+     * Asynchronously executes a provided function once for each list element.
+     * The callbacks run concurrently on virtual threads where the runtime supports them, otherwise on a shared pool of daemon threads, so they must be thread-safe. They are meant for blocking work such as I/O.
+     * Cancelling the returned future, or the timeout elapsing, interrupts the running callbacks and starts no more.
+     * @param list Source list. The elements are copied when the method is called, so later changes to it do not affect the result.
+     * @param consumer Function to execute on each element, taking the element, its index and <b>list</b>.
+     * @param concurrency Maximum number of callbacks running at the same time.
+     * @return A future completing when the function has run for every element. It fails with a <b>PartialResultException</b> telling which elements completed if any callback throws.
+     */
+    public static <T> CompletableFuture<Void> forEachAsync(List<T> list, Consumer<? super T> consumer, int concurrency) {
+        return forEachAsync(list, consumer, concurrency, null);
+    }
+
+    /**
+     * Asynchronously executes a provided function once for each list element.
+     * The callbacks run concurrently on virtual threads where the runtime supports them, otherwise on a shared pool of daemon threads, so they must be thread-safe. They are meant for blocking work such as I/O.
+     * Cancelling the returned future, or the timeout elapsing, interrupts the running callbacks and starts no more.
+     * @param list Source list. The elements are copied when the method is called, so later changes to it do not affect the result.
+     * @param consumer Function to execute on each element, taking the element, its index and <b>list</b>.
+     * @param concurrency Maximum number of callbacks running at the same time.
+     * @param timeout Maximum time to wait for all callbacks, or <b>null</b> to wait indefinitely.
+     * @return A future completing when the function has run for every element. It fails with a <b>PartialResultException</b> telling which elements completed if any callback throws or the timeout elapses.
+     */
+    public static <T> CompletableFuture<Void> forEachAsync(List<T> list, Consumer<? super T> consumer, int concurrency, Duration timeout) {
+        Objects.requireNonNull(consumer);
+        return Async.run(copy(list), list, concurrency, timeout, (element, index, list1) -> {
+            consumer.accept(element, index, list1);
+            return null;
+        }, results -> null);
+    }
+
+    /**
+     * Executes a provided function once for each batch of consecutive list elements, in order.
+     * The batch passed to the callback is a read-only view of a buffer that is refilled for every batch, so iterating does not allocate once the buffer is allocated.
+     * @param list Source list.
+     * @param consumer Function to execute on each batch, taking the batch, the index of its first element and <b>list</b>.
+     * @param batchSize Maximum number of elements of a batch.
+     */
+    public static <T> void forEachBatch(List<T> list, BatchConsumer<? super T> consumer, int batchSize) {
+        forEachBatch(list, consumer, batchSize, Long.MAX_VALUE, element -> 0);
+    }
+
+    /**
+     * Executes a provided function once for each batch of consecutive list elements, in order. A batch ends when it reaches <b>batchSize</b> elements or when the next element would make it exceed <b>maxBatchBytes</b>; a single element larger than <b>maxBatchBytes</b> is passed alone.
+     * The batch passed to the callback is a read-only view of a buffer that is refilled for every batch, so iterating does not allocate once the buffer is allocated.
+     * @param list Source list.
+     * @param consumer Function to execute on each batch, taking the batch, the index of its first element and <b>list</b>.
+     * @param batchSize Maximum number of elements of a batch.
+     * @param maxBatchBytes Maximum estimated size of a batch in bytes.
+     * @param estimator Function estimating the size in bytes of an element.
+     */
+    public static <T> void forEachBatch(List<T> list, BatchConsumer<? super T> consumer, int batchSize, long maxBatchBytes, ToLongFunction<? super T> estimator) {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(consumer);
+        checkBatch(batchSize, maxBatchBytes);
+        batch(list, list, batchSize, maxBatchBytes, estimator, consumer);
+    }
+
+    /**
+     * Creates a new, shallow-copied <b>List</b> instance from a collection.
+     * @deprecated Please use <b>new ArrayList<>(collection)</b> directly.
+     */
+    @Deprecated
+    public static <T> List<T> from(Collection<? extends T> collection) {
+        return new ArrayList<>(collection);
+    }
+
+    /**
+     * Creates a new list from the results of calling a provided function on every element of a collection, in one pass into a list of its size, as <b>Array.from()</b> does in ECMAScript.
+     * @param collection A collection to convert to a list.
+     * @param mapper Map function to call on every element of the collection. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element.</li>
+     *     <li>index - The index of the element in the new list.</li>
+     *     <li>list - <b>null</b>, since the list is still being built.</li>
+     * </ul>
+     * @return A new <b>List</b> instance.
+     */
+    public static <T,R> List<R> from(Collection<? extends T> collection, Mapper<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return collect(collection.spliterator(), mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new list of the elements of an iterable. Equivalent to <b>from(iterable.spliterator(), null, Integer.MAX_VALUE)</b>.
+     */
+    public static <T> List<T> from(Iterable<? extends T> iterable) {
+        return collect(iterable.spliterator(), null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Equivalent to <b>from(iterable.spliterator(), mapper, Integer.MAX_VALUE)</b>.
+     */
+    public static <T, R> List<R> from(Iterable<? extends T> iterable, Mapper<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return collect(iterable.spliterator(), mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Equivalent to <b>from(iterable.spliterator(), mapper, limit)</b>.
+     */
+    public static <T, R> List<R> from(Iterable<? extends T> iterable, Mapper<? super T, ? extends R> mapper, int limit) {
+        return collect(iterable.spliterator(), mapper, limit);
+    }
+
+    /**
+     * Creates a new list of the remaining elements of an iterator. Equivalent to <b>from(iterator, null, Integer.MAX_VALUE)</b>.
+     */
+    public static <T> List<T> from(Iterator<? extends T> iterator) {
+        return collect(Spliterators.spliteratorUnknownSize(iterator, 0), null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Equivalent to <b>from(iterator, mapper, Integer.MAX_VALUE)</b>.
+     */
+    public static <T, R> List<R> from(Iterator<? extends T> iterator, Mapper<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return collect(Spliterators.spliteratorUnknownSize(iterator, 0), mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new list from the results of calling a provided function on the remaining elements of an iterator, up to a limit. The iterator is read once, and no further than the limit.
+     * @param iterator Source of the elements.
+     * @param mapper Map function to call on every element, or <b>null</b> to add the elements themselves. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element.</li>
+     *     <li>index - The index of the element in the new list.</li>
+     *     <li>list - <b>null</b>, since the list is still being built.</li>
+     * </ul>
+     * @param limit Maximum number of elements to read.
+     * @return A new <b>List</b> instance.
+     * @throws IllegalArgumentException If <b>limit</b> is negative.
+     */
+    public static <T, R> List<R> from(Iterator<? extends T> iterator, Mapper<? super T, ? extends R> mapper, int limit) {
+        return collect(Spliterators.spliteratorUnknownSize(iterator, 0), mapper, limit);
+    }
+
+    /**
+     * Creates a new list of the remaining elements of a spliterator. Equivalent to <b>from(spliterator, null, Integer.MAX_VALUE)</b>.
+     */
+    public static <T> List<T> from(Spliterator<? extends T> spliterator) {
+        return collect(spliterator, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Equivalent to <b>from(spliterator, mapper, Integer.MAX_VALUE)</b>.
+     */
+    public static <T, R> List<R> from(Spliterator<? extends T> spliterator, Mapper<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return collect(spliterator, mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new list from the results of calling a provided function on the remaining elements of a spliterator, up to a limit, in a single pass without buffering the source.
+     * The list is presized from the size of a <b>SIZED</b> spliterator, or from <b>estimateSize()</b> otherwise, and trimmed if the estimate turns out to be more than twice the size.
+     * @param spliterator Source of the elements.
+     * @param mapper Map function to call on every element, or <b>null</b> to add the elements themselves. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element.</li>
+     *     <li>index - The index of the element in the new list.</li>
+     *     <li>list - <b>null</b>, since the list is still being built.</li>
+     * </ul>
+     * @param limit Maximum number of elements to read.
+     * @return A new <b>List</b> instance.
+     * @throws IllegalArgumentException If <b>limit</b> is negative.
+     */
+    public static <T, R> List<R> from(Spliterator<? extends T> spliterator, Mapper<? super T, ? extends R> mapper, int limit) {
+        return collect(spliterator, mapper, limit);
+    }
+
+    /**
+     * Creates a new list of the elements of a stream. Equivalent to <b>from(stream, null, Integer.MAX_VALUE)</b>.
+     */
+    public static <T> List<T> from(Stream<? extends T> stream) {
+        return from(stream, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Equivalent to <b>from(stream, mapper, Integer.MAX_VALUE)</b>.
+     */
+    public static <T, R> List<R> from(Stream<? extends T> stream, Mapper<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return from(stream, mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new list from the results of calling a provided function on the elements of a stream, up to a limit. The stream is consumed.
+     * A sequential stream is collected as by <b>from(stream.spliterator(), mapper, limit)</b>, and a parallel one as by <b>parallelFrom(stream.spliterator(), mapper, 4096)</b> within the limit.
+     * @param stream Source of the elements.
+     * @param mapper Map function to call on every element, or <b>null</b> to add the elements themselves. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element.</li>
+     *     <li>index - The index of the element in the new list.</li>
+     *     <li>list - <b>null</b>, since the list is still being built.</li>
+     * </ul>
+     * @param limit Maximum number of elements to read.
+     * @return A new <b>List</b> instance.
+     * @throws IllegalArgumentException If <b>limit</b> is negative.
+     */
+    public static <T, R> List<R> from(Stream<? extends T> stream, Mapper<? super T, ? extends R> mapper, int limit) {
+        if (stream.isParallel())
+            return collectParallel(stream.spliterator(), mapper, limit, PARALLEL_THRESHOLD);
+        return collect(stream.spliterator(), mapper, limit);
+    }
+
+    /**
+     * Groups the elements of a list by the keys returned by a provided function, as <b>Map.groupBy()</b> does in ECMAScript. It replaces one <b>filter()</b> call per key with a single pass.
+     * The key of every element is recorded in that pass, so that each group is then filled into a list of its exact size.
+     * @param list List to be grouped.
+     * @param keyMapper Function that is called for every element of <b>list</b>, returning its key. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>groupBy()</b> was called upon.</li>
+     * </ul>
+     * @return A new <b>LinkedHashMap</b> from each key to the elements with it, in their order in the list. The keys are in the order they were first returned.
+     */
+    public static <T, K> Map<K, List<T>> groupBy(List<T> list, Mapper<? super T, ? extends K> keyMapper) {
+        List<T> source = snapshot(list);
+        Map<K, Integer> groups = new HashMap<>();
+        List<K> keys = new ArrayList<>();
+        Grouping grouping = new Grouping(source.size());
+        Probe probe = Probe.start("groupBy", list);
+        Mapper<? super T, ? extends K> function = probe == null ? keyMapper : probe.wrapMapper(keyMapper);
+        walk(source, list, (element, index, list1) -> {
+            Integer group = groups.computeIfAbsent(function.apply(element, index, list1), key -> {
+                keys.add(key);
+                return keys.size() - 1;
+            });
+            grouping.add(index, group);
+        });
+        List<List<T>> buckets = grouping.fill(source);
+        Map<K, List<T>> result = new LinkedHashMap<>(capacity(keys.size()));
+        for (int i = 0; i < keys.size(); i++)
+            result.put(keys.get(i), buckets.get(i));
+        if (probe != null)
+            probe.finish(-1, result.size());
+        return result;
+    }
+
+    /**
+     * Groups the elements of a list by the <b>int</b> keys returned by a provided function, without boxing the keys. Otherwise the same as <b>groupBy()</b>.
+     * @param list List to be grouped.
+     * @param keyMapper Function that is called for every element of <b>list</b>, returning its key. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>groupByInt()</b> was called upon.</li>
+     * </ul>
+     * @return A new <b>IntGroups</b> from each key to the elements with it, in their order in the list.
+     */
+    public static <T> IntGroups<T> groupByInt(List<T> list, ToIntMapper<? super T> keyMapper) {
+        List<T> source = snapshot(list);
+        IntGroups<T> result = new IntGroups<>();
+        Grouping grouping = new Grouping(source.size());
+        Probe probe = Probe.start("groupByInt", list);
+        ToIntMapper<? super T> function = probe == null ? keyMapper : probe.wrapToIntMapper(keyMapper);
+        walk(source, list, (element, index, list1) -> grouping.add(index, result.group(function.apply(element, index, list1))));
+        result.buckets = grouping.fill(source);
+        if (probe != null)
+            probe.finish(-1, result.size());
+        return result;
+    }
+
+    /**
+     * Determines whether a list includes a certain value among its entries, returning true or false as appropriate.
+     * @deprecated Please use <b>list.contains(item)</b> directly.
+     */
+    @Deprecated
+    public static <T> boolean includes(List<T> list, T item) {
+        return list.contains(item);
+    }
+
+    /**
+     * Determines whether a list includes a certain value among its entries, returning true or false as appropriate.
+     * @param list List under search.
+     * @param item The value to search for.
+     * @param fromIndex The position in this list at which to begin searching for <b>list</b>. The first element to be searched is found at <b>fromIndex</b> for positive values of <b>fromIndex</b>, or at <b>list.size() + fromIndex</b> for negative values of <b>fromIndex</b>.
+     * @return A <b>Boolean</b> which is true if the value valueToFind is found within the part of the list indicated by the index <b>fromIndex</b>.
+     */
+    public static <T> boolean includes(List<T> list, T item, int fromIndex) {
+        if (guarded(list)) {
+            int from = fromIndex;
+            return locked(list, l -> includes(l, item, from));
+        }
+        if (fromIndex >= list.size())
+            return false;
+        if (fromIndex < 0) {
+            fromIndex += list.size();
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        Probe probe = Probe.start("includes", list);
+        if (probe == null)
+            return search(list, item, fromIndex) >= 0;
+        int index = search(list, item, fromIndex);
+        probe.searched(list, fromIndex, index, true);
+        return index >= 0;
+    }
+
+    /**
+     * Determines whether a <b>IntList</b> includes a certain value among its entries.
+     * @param list List under search.
+     * @param item The value to search for.
+     * @return <b>true</b> if the value is found in the list.
+     */
+    public static boolean includes(IntList list, int item) {
+        return includes(list, item, 0);
+    }
+
+    /**
+     * Determines whether a <b>IntList</b> includes a certain value among its entries, starting at <b>fromIndex</b>.
+     * @param list List under search.
+     * @param item The value to search for.
+     * @param fromIndex The position at which to begin searching. Negative values are counted from the end of the list.
+     * @return <b>true</b> if the value is found within the part of the list indicated by <b>fromIndex</b>.
+     */
+    public static boolean includes(IntList list, int item, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex += list.size;
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        for (int i = fromIndex; i < list.size; i++)
+            if (list.elements[i] == item)
+                return true;
+        return false;
+    }
+
+    /**
+     * Determines whether a <b>LongList</b> includes a certain value among its entries.
+     * @param list List under search.
+     * @param item The value to search for.
+     * @return <b>true</b> if the value is found in the list.
+     */
+    public static boolean includes(LongList list, long item) {
+        return includes(list, item, 0);
+    }
+
+    /**
+     * Determines whether a <b>LongList</b> includes a certain value among its entries, starting at <b>fromIndex</b>.
+     * @param list List under search.
+     * @param item The value to search for.
+     * @param fromIndex The position at which to begin searching. Negative values are counted from the end of the list.
+     * @return <b>true</b> if the value is found within the part of the list indicated by <b>fromIndex</b>.
+     */
+    public static boolean includes(LongList list, long item, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex += list.size;
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        for (int i = fromIndex; i < list.size; i++)
+            if (list.elements[i] == item)
+                return true;
+        return false;
+    }
+
+    /**
+     * Determines whether a <b>DoubleList</b> includes a certain value among its entries.
+     * @param list List under search.
+     * @param item The value to search for.
+     * @return <b>true</b> if the value is found in the list.
+     */
+    public static boolean includes(DoubleList list, double item) {
+        return includes(list, item, 0);
+    }
+
+    /**
+     * Determines whether a <b>DoubleList</b> includes a certain value among its entries, starting at <b>fromIndex</b>. <b>NaN</b> is found if present.
+     * @param list List under search.
+     * @param item The value to search for.
+     * @param fromIndex The position at which to begin searching. Negative values are counted from the end of the list.
+     * @return <b>true</b> if the value is found within the part of the list indicated by <b>fromIndex</b>.
+     */
+    public static boolean includes(DoubleList list, double item, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex += list.size;
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        for (int i = fromIndex; i < list.size; i++)
+            if (list.elements[i] == item || item != item && list.elements[i] != list.elements[i])
+                return true;
+        return false;
+    }
+
+    /**
+     * Creates a view of a list with a hash index from each value to its positions, for lists that are searched many times.
+     * <b>indexOf()</b>, <b>lastIndexOf()</b> and <b>includes()</b> called on the view take O(log n) instead of a linear scan.
+     * The index follows changes made through the view, including those made by the methods of this class, either directly or by rebuilding itself on the next search.
+     * @param list List to be indexed. Further changes should be made through the returned view.
+     * @return An <b>IndexedList</b> view of <b>list</b>.
+     */
+    public static <T> IndexedList<T> index(List<T> list) {
+        Objects.requireNonNull(list);
+        return IndexedList.of(list);
+    }
+
+    /**
+     * Returns the first index at which a given element can be found in the list, or -1 if it is not present.
+     * @deprecated Please use <b>list.indexOf(item)</b> directly.
+     */
+    @Deprecated
+    public static <T> int indexOf(List<T> list, T item) {
+        return list.indexOf(item);
+    }
+
+    /**
+     * Returns the first index at which a given element can be found in the list, or -1 if it is not present.
+     * @param list List under search.
+     * @param item Element to locate in the list.
+     * @param fromIndex The index to start the search at. If the index is greater than or equal to <b>list.size()</b>, -1 is returned, which means the list will not be searched. If the provided index value is a negative number, it is taken as the offset from the end of the list. Note: if the provided index is negative, the list is still searched from front to back. If the provided index is 0, then the whole list will be searched.
+     * @return The first index of the element in the list; <b>-1</b> if not found.
+     */
+    public static <T> int indexOf(List<T> list, T item, int fromIndex) {
+        if (guarded(list)) {
+            int from = fromIndex;
+            return locked(list, l -> indexOf(l, item, from));
+        }
+        if (fromIndex >= list.size())
+            return -1;
+        if (fromIndex < 0) {
+            fromIndex += list.size();
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        Probe probe = Probe.start("indexOf", list);
+        if (probe == null)
+            return search(list, item, fromIndex);
+        int index = search(list, item, fromIndex);
+        probe.searched(list, fromIndex, index, true);
+        return index;
+    }
+
+    /**
+     * Returns the first index at which a given value can be found in a <b>IntList</b>, or -1 if it is not present.
+     * @param list List under search.
+     * @param item Value to locate in the list.
+     * @return The first index of the value in the list; <b>-1</b> if not found.
+     */
+    public static int indexOf(IntList list, int item) {
+        return indexOf(list, item, 0);
+    }
+
+    /**
+     * Returns the first index at which a given value can be found in a <b>IntList</b>, starting at <b>fromIndex</b>, or -1 if it is not present.
+     * @param list List under search.
+     * @param item Value to locate in the list.
+     * @param fromIndex The index to start the search at. Negative values are counted from the end of the list.
+     * @return The first index of the value in the list; <b>-1</b> if not found.
+     */
+    public static int indexOf(IntList list, int item, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex += list.size;
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        for (int i = fromIndex; i < list.size; i++)
+            if (list.elements[i] == item)
+                return i;
+        return -1;
+    }
+
+    /**
+     * Returns the first index at which a given value can be found in a <b>LongList</b>, or -1 if it is not present.
+     * @param list List under search.
+     * @param item Value to locate in the list.
+     * @return The first index of the value in the list; <b>-1</b> if not found.
+     */
+    public static int indexOf(LongList list, long item) {
+        return indexOf(list, item, 0);
+    }
+
+    /**
+     * Returns the first index at which a given value can be found in a <b>LongList</b>, starting at <b>fromIndex</b>, or -1 if it is not present.
+     * @param list List under search.
+     * @param item Value to locate in the list.
+     * @param fromIndex The index to start the search at. Negative values are counted from the end of the list.
+     * @return The first index of the value in the list; <b>-1</b> if not found.
+     */
+    public static int indexOf(LongList list, long item, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex += list.size;
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        for (int i = fromIndex; i < list.size; i++)
+            if (list.elements[i] == item)
+                return i;
+        return -1;
+    }
+
+    /**
+     * Returns the first index at which a given value can be found in a <b>DoubleList</b>, or -1 if it is not present. <b>NaN</b> is never found, as in ECMAScript.
+     * @param list List under search.
+     * @param item Value to locate in the list.
+     * @return The first index of the value in the list; <b>-1</b> if not found.
+     */
+    public static int indexOf(DoubleList list, double item) {
+        return indexOf(list, item, 0);
+    }
+
+    /**
+     * Returns the first index at which a given value can be found in a <b>DoubleList</b>, starting at <b>fromIndex</b>, or -1 if it is not present.
+     * @param list List under search.
+     * @param item Value to locate in the list.
+     * @param fromIndex The index to start the search at. Negative values are counted from the end of the list.
+     * @return The first index of the value in the list; <b>-1</b> if not found.
+     */
+    public static int indexOf(DoubleList list, double item, int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex += list.size;
+            if (fromIndex < 0)
+                fromIndex = 0;
+        }
+        for (int i = fromIndex; i < list.size; i++)
+            if (list.elements[i] == item)
+                return i;
+        return -1;
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a list, separated by commas or a specified separator string. If the list has only one item, then that item will be returned without using the separator.
+     * @param list List of elements to be joined.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static <T> String join(List<T> list) {
+        return join(list, ",");
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a list, separated by commas or a specified separator string. If the list has only one item, then that item will be returned without using the separator.
+     * @param list List of elements to be joined.
+     * @param separator Specifies a string to separate each pair of adjacent elements of the list.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static <T> String join(List<T> list, String separator) {
+        if (list.isEmpty())
+            return "";
+        StringBuilder builder = new StringBuilder(joinedLength(list, separator));
+        try {
+            appendJoined(list, separator, builder);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the elements of a list, separated by a specified separator string, to an <b>Appendable</b> such as a <b>Writer</b> or a <b>StringBuilder</b>, without building the joined string.
+     * @param list List of elements to be joined.
+     * @param separator Specifies a string to separate each pair of adjacent elements of the list.
+     * @param appendable The destination of the characters.
+     * @return <b>appendable</b>.
+     * @throws IOException If <b>appendable</b> throws one.
+     */
+    public static <T, A extends Appendable> A join(List<T> list, String separator, A appendable) throws IOException {
+        Objects.requireNonNull(appendable);
+        appendJoined(list, separator, appendable);
+        return appendable;
+    }
+
+    /**
+     * Writes the elements of a list, separated by a specified separator string, to a channel in the given charset, without building the joined string.
+     * Characters are encoded through a fixed-size buffer, so memory use does not depend on the size of the list. Malformed and unmappable characters are replaced.
+     * @param list List of elements to be joined.
+     * @param separator Specifies a string to separate each pair of adjacent elements of the list.
+     * @param channel The destination of the bytes. It is not closed.
+     * @param charset The charset to encode the characters with.
+     * @return The number of bytes written.
+     * @throws IOException If writing to <b>channel</b> fails.
+     */
+    public static <T> long join(List<T> list, String separator, WritableByteChannel channel, Charset charset) throws IOException {
+        EncodingAppendable appendable = new EncodingAppendable(Objects.requireNonNull(channel), charset);
+        appendJoined(list, separator, appendable);
+        return appendable.finish();
+    }
+
+    /**
+     * Writes the elements of a list, separated by a specified separator string, into a byte buffer in the given charset, starting at its position. Malformed and unmappable characters are replaced.
+     * @param list List of elements to be joined.
+     * @param separator Specifies a string to separate each pair of adjacent elements of the list.
+     * @param buffer The destination of the bytes. Its position is advanced past the bytes written.
+     * @param charset The charset to encode the characters with.
+     * @return The number of bytes written.
+     * @throws java.nio.BufferOverflowException If <b>buffer</b> has not enough space remaining. The bytes that fit have been written.
+     */
+    public static <T> long join(List<T> list, String separator, ByteBuffer buffer, Charset charset) {
+        EncodingAppendable appendable = new EncodingAppendable(Objects.requireNonNull(buffer), charset);
+        try {
+            appendJoined(list, separator, appendable);
+            return appendable.finish();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a <b>IntList</b>, separated by commas.
+     * @param list List of elements to be joined.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static String join(IntList list) {
+        return join(list, ",");
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a <b>IntList</b>, separated by a specified separator string.
+     * @param list List of elements to be joined.
+     * @param separator Specifies a string to separate each pair of adjacent elements of the list.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static String join(IntList list, String separator) {
+        if (list.size == 0)
+            return "";
+        StringBuilder builder = new StringBuilder(joinedLength(list, separator));
+        for (int i = 0; i < list.size; i++) {
+            if (i > 0)
+                builder.append(separator);
+            builder.append(list.elements[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a <b>LongList</b>, separated by commas.
+     * @param list List of elements to be joined.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static String join(LongList list) {
+        return join(list, ",");
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a <b>LongList</b>, separated by a specified separator string.
+     * @param list List of elements to be joined.
+     * @param separator Specifies a string to separate each pair of adjacent elements of the list.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static String join(LongList list, String separator) {
+        if (list.size == 0)
+            return "";
+        StringBuilder builder = new StringBuilder(joinedLength(list, separator));
+        for (int i = 0; i < list.size; i++) {
+            if (i > 0)
+                builder.append(separator);
+            builder.append(list.elements[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a <b>DoubleList</b>, separated by commas.
+     * @param list List of elements to be joined.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static String join(DoubleList list) {
+        return join(list, ",");
+    }
+
+    /**
+     * Creates and returns a new string by concatenating all of the elements in a <b>DoubleList</b>, separated by a specified separator string.
+     * @param list List of elements to be joined.
+     * @param separator Specifies a string to separate each pair of adjacent elements of the list.
+     * @return A string with all list elements joined. If <b>list.size()</b> is 0, the empty string is returned.
+     */
+    public static String join(DoubleList list, String separator) {
+        if (list.size == 0)
+            return "";
+        StringBuilder builder = new StringBuilder(joinedLength(list, separator));
+        for (int i = 0; i < list.size; i++) {
+            if (i > 0)
+                builder.append(separator);
+            builder.append(list.elements[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the last index at which a given element can be found in the list, or -1 if it is not present.
+     * @deprecated Please use <b>list.lastIndexOf(item)</b> directly.
+     */
+    @Deprecated
+    public static <T> int lastIndexOf(List<T> list, T item) {
+        return list.lastIndexOf(item);
+    }
+
+    /**
+     * Returns the last index at which a given element can be found in the list, or -1 if it is not present. The list is searched backwards, starting at <b>fromIndex</b>.
+     * @param list List under search.
+     * @param item Element to locate in the list.
+     * @param fromIndex The index at which to start searching backwards. If the index is greater than or equal to the size of the list, the whole list will be searched. If negative, it is taken as the offset from the end of the list. Note that even when the index is negative, the list is still searched from back to front. If the calculated index is less than 0, -1 is returned, i.e. the list will not be searched.
+     * @return The last index of the element in the list; -1 if not found.
+     */
+    public static <T> int lastIndexOf(List<T> list, T item, int fromIndex) {
+        if (guarded(list)) {
+            int from = fromIndex;
+            return locked(list, l -> lastIndexOf(l, item, from));
+        }
+        if (fromIndex >= list.size())
+            fromIndex = list.size() - 1;
+        if (fromIndex < 0) {
+            fromIndex += list.size();
+            if (fromIndex < 0)
+                return -1;
+        }
+        Probe probe = Probe.start("lastIndexOf", list);
+        if (probe == null)
+            return searchBackward(list, item, fromIndex);
+        int index = searchBackward(list, item, fromIndex);
+        probe.searched(list, fromIndex, index, false);
+        return index;
+    }
+
+    /**
+     * Creates a lazy pipeline over a list. Chained <b>filter()</b>, <b>map()</b> and <b>slice()</b> calls are fused into a single pass that only runs when a terminal method such as <b>find()</b>, <b>some()</b>, <b>every()</b>, <b>reduce()</b> or <b>toList()</b> is called, and that stops as soon as the result is known.
+     * @param list Source list. It is read again every time the pipeline is run.
+     * @return A new <b>Lazy</b> pipeline producing the elements of <b>list</b>.
+     */
+    public static <T> Lazy<T> lazy(List<T> list) {
+        Objects.requireNonNull(list);
+        return new Lazy.Source<>(list);
+    }
+
+    /**
+     * Creates a new list populated with the results of calling a provided function on every element in the calling list.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every element of <b>list</b>. Each time callback executes, the returned value is added to the new list. The <b>mapper</b> function accepts the following arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>map()</b> was called upon.</li>
+     * </ul>
+     * @return A new list with each element being the result of the callback function.
+     */
+    public static <T,R> List<R> map(List<T> list, Mapper<? super T, ? extends R> mapper) {
+        Probe probe = Probe.start("map", list);
+        Mapper<? super T, ? extends R> function = probe == null ? mapper : probe.wrapMapper(mapper);
+        List<R> result = guarded(list)
+                ? locked(list, elements -> map(elements, list, function))
+                : map(list, list, function);
+        if (probe != null)
+            probe.finish(-1, result.size());
+        return result;
+    }
+
+    /**
+     * Creates a new <b>IntList</b> populated with the results of calling a provided function on every element in the calling list.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every element of <b>list</b>, taking the element, its index and <b>list</b>.
+     * @return A new <b>IntList</b> of the same size with each element being the result of the callback function.
+     */
+    public static IntList map(IntList list, IntMapper mapper) {
+        int size = list.size;
+        IntList result = new IntList(size);
+        result.size = size;
+        for (int i = 0; i < size && i < list.size; i++)
+            result.elements[i] = mapper.apply(list.elements[i], i, list);
+        return result;
+    }
+
+    /**
+     * Creates a new <b>LongList</b> populated with the results of calling a provided function on every element in the calling list.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every element of <b>list</b>, taking the element, its index and <b>list</b>.
+     * @return A new <b>LongList</b> of the same size with each element being the result of the callback function.
+     */
+    public static LongList map(LongList list, LongMapper mapper) {
+        int size = list.size;
+        LongList result = new LongList(size);
+        result.size = size;
+        for (int i = 0; i < size && i < list.size; i++)
+            result.elements[i] = mapper.apply(list.elements[i], i, list);
+        return result;
+    }
+
+    /**
+     * Creates a new <b>DoubleList</b> populated with the results of calling a provided function on every element in the calling list.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every element of <b>list</b>, taking the element, its index and <b>list</b>.
+     * @return A new <b>DoubleList</b> of the same size with each element being the result of the callback function.
+     */
+    public static DoubleList map(DoubleList list, DoubleMapper mapper) {
+        int size = list.size;
+        DoubleList result = new DoubleList(size);
+        result.size = size;
+        for (int i = 0; i < size && i < list.size; i++)
+            result.elements[i] = mapper.apply(list.elements[i], i, list);
+        return result;
+    }
+
+    /**
+     * Asynchronously creates a new list populated with the results of calling a provided function on every element in the calling list, in their original order.
+     * The callbacks run concurrently on virtual threads where the runtime supports them, otherwise on a shared pool of daemon threads, so they must be thread-safe. They are meant for blocking work such as I/O.
+     * Cancelling the returned future, or the timeout elapsing, interrupts the running callbacks and starts no more.
+     * @param list List to be mapped. The elements are copied when the method is called, so later changes to it do not affect the result.
+     * @param mapper Function that is called for every element of <b>list</b>, taking the element, its index and <b>list</b>.
+     * @param concurrency Maximum number of callbacks running at the same time.
+     * @return A future of a new list with each element being the result of the callback function. It fails with a <b>PartialResultException</b> holding the completed results if any callback throws.
+     */
+    public static <T, R> CompletableFuture<List<R>> mapAsync(List<T> list, Mapper<? super T, ? extends R> mapper, int concurrency) {
+        return mapAsync(list, mapper, concurrency, null);
+    }
+
+    /**
+     * Asynchronously creates a new list populated with the results of calling a provided function on every element in the calling list, in their original order.
+     * The callbacks run concurrently on virtual threads where the runtime supports them, otherwise on a shared pool of daemon threads, so they must be thread-safe. They are meant for blocking work such as I/O.
+     * Cancelling the returned future, or the timeout elapsing, interrupts the running callbacks and starts no more.
+     * @param list List to be mapped. The elements are copied when the method is called, so later changes to it do not affect the result.
+     * @param mapper Function that is called for every element of <b>list</b>, taking the element, its index and <b>list</b>.
+     * @param concurrency Maximum number of callbacks running at the same time.
+     * @param timeout Maximum time to wait for all callbacks, or <b>null</b> to wait indefinitely.
+     * @return A future of a new list with each element being the result of the callback function. It fails with a <b>PartialResultException</b> holding the completed results if any callback throws or the timeout elapses.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> CompletableFuture<List<R>> mapAsync(List<T> list, Mapper<? super T, ? extends R> mapper, int concurrency, Duration timeout) {
+        Objects.requireNonNull(mapper);
+        return Async.run(copy(list), list, concurrency, timeout, mapper::apply, results -> new ArrayList<>((List<R>) Arrays.asList(results)));
+    }
+
+    /**
+     * Creates a new list populated with the results of calling a provided function on every batch of consecutive list elements.
+     * The batch passed to the callback is a read-only view of a buffer that is refilled for every batch, so iterating does not allocate once the buffer is allocated.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every batch, taking the batch, the index of its first element and <b>list</b>, and returning one new element for each element of the batch.
+     * @param batchSize Maximum number of elements of a batch.
+     * @return A new list, of the same size as <b>list</b>, with the elements returned for all the batches in order.
+     * @throws IllegalStateException If <b>mapper</b> returns a list whose size differs from the batch.
+     */
+    public static <T, R> List<R> mapBatched(List<T> list, BatchMapper<? super T, ? extends R> mapper, int batchSize) {
+        return mapBatched(list, mapper, batchSize, Long.MAX_VALUE, element -> 0);
+    }
+
+    /**
+     * Creates a new list populated with the results of calling a provided function on every batch of consecutive list elements. A batch ends when it reaches <b>batchSize</b> elements or when the next element would make it exceed <b>maxBatchBytes</b>; a single element larger than <b>maxBatchBytes</b> is passed alone.
+     * The batch passed to the callback is a read-only view of a buffer that is refilled for every batch, so iterating does not allocate once the buffer is allocated.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every batch, taking the batch, the index of its first element and <b>list</b>, and returning one new element for each element of the batch.
+     * @param batchSize Maximum number of elements of a batch.
+     * @param maxBatchBytes Maximum estimated size of a batch in bytes.
+     * @param estimator Function estimating the size in bytes of an element.
+     * @return A new list, of the same size as <b>list</b>, with the elements returned for all the batches in order.
+     * @throws IllegalStateException If <b>mapper</b> returns a list whose size differs from the batch.
+     */
+    public static <T, R> List<R> mapBatched(List<T> list, BatchMapper<? super T, ? extends R> mapper, int batchSize, long maxBatchBytes, ToLongFunction<? super T> estimator) {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(mapper);
+        checkBatch(batchSize, maxBatchBytes);
+        List<R> result = new ArrayList<>(list.size());
+        batch(list, list, batchSize, maxBatchBytes, estimator, (batch, startIndex, list1) -> {
+            List<? extends R> mapped = mapper.apply(batch, startIndex, list1);
+            if (mapped.size() != batch.size())
+                throw new IllegalStateException("Batch of " + batch.size() + " elements at index " + startIndex + " was mapped to " + mapped.size() + " elements");
+            result.addAll(mapped);
+        });
+        return result;
+    }
+
+    /**
+     * Copies a view returned by <b>toReversed()</b>, <b>toSpliced()</b> or <b>with()</b> into a new list, which can be modified and no longer reads through to the list the view was created from.
+     * @param list List to be materialized.
+     * @return A new <b>ArrayList</b> with the elements of <b>list</b> if it is such a view; otherwise <b>list</b> itself.
+     */
+    public static <T> List<T> materialize(List<T> list) {
+        Objects.requireNonNull(list);
+        return list instanceof ListView ? new ArrayList<>(list) : list;
+    }
+
+    /**
+     * Creates a new <b>List</b> instance from a variable number of arguments, regardless of number or type of the arguments.
+     * @param items Elements used to create the list.
+     * @return A new <b>List</b> instance.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> List<T> of(T... items) {
+        return new ArrayList<>(Arrays.asList(items));
+    }
+
+    /**
+     * Parallel version of <b>every()</b>. Equivalent to <b>parallelEvery(list, predicate, 4096)</b>.
+     */
+    public static <T> boolean parallelEvery(List<T> list, Predicate<? super T> predicate) {
+        return parallelEvery(list, predicate, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Tests whether all elements in the list pass the test implemented by the provided function, in parallel. Remaining ranges are skipped once an element fails the test.
+     * The list is split into index ranges that are processed on the <b>ForkJoinPool</b> of the calling task, or the common pool. The callback may be called concurrently and in any order, and must not modify the list.
+     * @param list List under test.
+     * @param predicate A function to test for each element, taking three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>parallelEvery()</b> was called upon.</li>
+     * </ul>
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return <b>true</b> if the predicate function returns a truthy value for every list element. Otherwise, <b>false</b>.
+     */
+    public static <T> boolean parallelEvery(List<T> list, Predicate<? super T> predicate, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return every(list, predicate);
+        List<T> source = randomAccess(list);
+        AtomicBoolean failed = new AtomicBoolean();
+        new Parallel.SearchAction<>(source, list, predicate, false, failed, 0, source.size(), threshold).invoke();
+        return !failed.get();
+    }
+
+    /**
+     * Parallel version of <b>filter()</b>. Equivalent to <b>parallelFilter(list, predicate, 4096)</b>.
+     */
+    public static <T> List<T> parallelFilter(List<T> list, Predicate<? super T> predicate) {
+        return parallelFilter(list, predicate, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a new list with all elements that pass the test implemented by the provided function, testing in parallel. The elements keep their order.
+     * The list is split into index ranges that are processed on the <b>ForkJoinPool</b> of the calling task, or the common pool. The callback may be called concurrently and in any order, and must not modify the list.
+     * @param list List to be filtered.
+     * @param predicate Predicate to test each element of the list. It accepts three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>parallelFilter()</b> was called upon.</li>
+     * </ul>
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return A new <b>List</b> instance with the elements that pass the test.
+     */
+    public static <T> List<T> parallelFilter(List<T> list, Predicate<? super T> predicate, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return filter(list, predicate);
+        List<T> source = randomAccess(list);
+        boolean[] keep = new boolean[source.size()];
+        new Parallel.FilterAction<>(source, list, predicate, keep, 0, keep.length, threshold).invoke();
+        int count = 0;
+        for (boolean kept : keep)
+            if (kept)
+                count++;
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < keep.length; i++)
+            if (keep[i])
+                result.add(source.get(i));
+        return result;
+    }
+
+    /**
+     * Parallel version of <b>from()</b>. Equivalent to <b>parallelFrom(spliterator, mapper, 4096)</b>.
+     */
+    public static <T, R> List<R> parallelFrom(Spliterator<? extends T> spliterator, Mapper<? super T, ? extends R> mapper) {
+        return parallelFrom(spliterator, mapper, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a new list from the results of calling a provided function on the remaining elements of a spliterator, calling it in parallel. The results keep the order of the elements.
+     * A <b>SUBSIZED</b> spliterator, whose splits report their exact sizes, is split on the <b>ForkJoinPool</b> of the calling task, or the common pool, and each split maps its elements straight into their slots of the result. Other spliterators are collected sequentially, as by <b>from()</b>. The callback may be called concurrently and in any order.
+     * @param spliterator Source of the elements.
+     * @param mapper Map function to call on every element, or <b>null</b> to add the elements themselves. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element.</li>
+     *     <li>index - The index of the element in the new list.</li>
+     *     <li>list - <b>null</b>, since the list is still being built.</li>
+     * </ul>
+     * @param threshold Spliterators smaller than this are processed sequentially. It is also the size below which a split is no longer split.
+     * @return A new list with each element being the result of the callback function.
+     */
+    public static <T, R> List<R> parallelFrom(Spliterator<? extends T> spliterator, Mapper<? super T, ? extends R> mapper, int threshold) {
+        checkThreshold(threshold);
+        return collectParallel(spliterator, mapper, Integer.MAX_VALUE, threshold);
+    }
+
+    /**
+     * Parallel version of <b>groupBy()</b>. Equivalent to <b>parallelGroupBy(list, keyMapper, 4096)</b>.
+     */
+    public static <T, K> Map<K, List<T>> parallelGroupBy(List<T> list, Mapper<? super T, ? extends K> keyMapper) {
+        return parallelGroupBy(list, keyMapper, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Groups the elements of a list by the keys returned by a provided function, in parallel. The result is the same as that of <b>groupBy()</b>, including the order of keys and elements.
+     * The list is split into index ranges that are grouped into separate maps on the <b>ForkJoinPool</b> of the calling task, or the common pool, and the maps are merged. The callback may be called concurrently and in any order, and must not modify the list.
+     * @param list List to be grouped.
+     * @param keyMapper Function that is called for every element of <b>list</b>, returning its key. It takes three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>parallelGroupBy()</b> was called upon.</li>
+     * </ul>
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return A new <b>LinkedHashMap</b> from each key to the elements with it, in their order in the list.
+     */
+    public static <T, K> Map<K, List<T>> parallelGroupBy(List<T> list, Mapper<? super T, ? extends K> keyMapper, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return groupBy(list, keyMapper);
+        List<T> source = randomAccess(list);
+        return new Parallel.GroupTask<T, K>(source, list, keyMapper, 0, source.size(), threshold).invoke();
+    }
+
+    /**
+     * Parallel version of <b>map()</b>. Equivalent to <b>parallelMap(list, mapper, 4096)</b>.
+     */
+    public static <T, R> List<R> parallelMap(List<T> list, Mapper<? super T, ? extends R> mapper) {
+        return parallelMap(list, mapper, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a new list populated with the results of calling a provided function on every element in the calling list, calling it in parallel. The results keep the order of the elements.
+     * The list is split into index ranges that are processed on the <b>ForkJoinPool</b> of the calling task, or the common pool. The callback may be called concurrently and in any order, and must not modify the list.
+     * @param list List to be mapped.
+     * @param mapper Function that is called for every element of <b>list</b>. The <b>mapper</b> function accepts the following arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>parallelMap()</b> was called upon.</li>
+     * </ul>
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return A new list with each element being the result of the callback function.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> parallelMap(List<T> list, Mapper<? super T, ? extends R> mapper, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return map(list, mapper);
+        List<T> source = randomAccess(list);
+        Object[] result = new Object[source.size()];
+        new Parallel.MapAction<>(source, list, mapper, result, 0, result.length, threshold).invoke();
+        return new ArrayList<>((List<R>) Arrays.asList(result));
+    }
+
+    /**
+     * Parallel version of <b>partition()</b>. Equivalent to <b>parallelPartition(list, predicate, 4096)</b>.
+     */
+    public static <T> Map<Boolean, List<T>> parallelPartition(List<T> list, Predicate<? super T> predicate) {
+        return parallelPartition(list, predicate, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Splits a list into the elements that pass a test and those that do not, testing them in parallel. The result is the same as that of <b>partition()</b>.
+     * The list is split into index ranges that are processed on the <b>ForkJoinPool</b> of the calling task, or the common pool. The callback may be called concurrently and in any order, and must not modify the list.
+     * @param list List to be split.
+     * @param predicate A function to test each element of the list, taking three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>parallelPartition()</b> was called upon.</li>
+     * </ul>
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return A new map from <b>true</b> to the elements that pass the test and from <b>false</b> to the others, each in their order in the list.
+     */
+    public static <T> Map<Boolean, List<T>> parallelPartition(List<T> list, Predicate<? super T> predicate, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return partition(list, predicate);
+        List<T> source = randomAccess(list);
+        boolean[] keep = new boolean[source.size()];
+        new Parallel.FilterAction<>(source, list, predicate, keep, 0, keep.length, threshold).invoke();
+        Grouping grouping = new Grouping(keep.length, 2);
+        for (int i = 0; i < keep.length; i++)
+            grouping.add(i, keep[i] ? 0 : 1);
+        return partitioned(grouping.fill(source));
+    }
+
+    /**
+     * Parallel version of <b>reduce()</b>. Equivalent to <b>parallelReduce(list, reducer, identity, combiner, 4096)</b>.
+     */
+    public static <T, R> R parallelReduce(List<T> list, Reducer<? super T, R> reducer, R identity, BinaryOperator<R> combiner) {
+        return parallelReduce(list, reducer, identity, combiner, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Executes a reducer function on each element of the list in parallel, resulting in single output value.
+     * Each index range is reduced from <b>identity</b>, and the partial results are merged from left to right by <b>combiner</b>.
+     * The list is split into index ranges that are processed on the <b>ForkJoinPool</b> of the calling task, or the common pool. The callback may be called concurrently and in any order, and must not modify the list.
+     * @param list Source list.
+     * @param reducer A function to execute on each element in the list. It takes four arguments:
+     * <ul>
+     *     <li>accumulator - The accumulated value of the current index range, starting from <b>identity</b>.</li>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>parallelReduce()</b> was called upon.</li>
+     * </ul>
+     * @param identity The identity value of <b>combiner</b>, used as the initial accumulator of every range.
+     * @param combiner An associative function merging the accumulators of two adjacent ranges.
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return The single value that results from the reduction.
+     */
+    public static <T, R> R parallelReduce(List<T> list, Reducer<? super T, R> reducer, R identity, BinaryOperator<R> combiner, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return reduce(list, reducer, identity);
+        List<T> source = randomAccess(list);
+        return new Parallel.ReduceTask<>(source, list, reducer, identity, combiner, 0, source.size(), threshold).invoke();
+    }
+
+    /**
+     * Parallel version of <b>some()</b>. Equivalent to <b>parallelSome(list, predicate, 4096)</b>.
+     */
+    public static <T> boolean parallelSome(List<T> list, Predicate<? super T> predicate) {
+        return parallelSome(list, predicate, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Tests whether at least one element in the list passes the test implemented by the provided function, in parallel. Remaining ranges are skipped once an element passes the test.
+     * The list is split into index ranges that are processed on the <b>ForkJoinPool</b> of the calling task, or the common pool. The callback may be called concurrently and in any order, and must not modify the list.
+     * @param list List under test.
+     * @param predicate A function to test for each element, taking three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>parallelSome()</b> was called upon.</li>
+     * </ul>
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return <b>true</b> if the callback function returns a truthy value for at least one element in the list. Otherwise, <b>false</b>.
+     */
+    public static <T> boolean parallelSome(List<T> list, Predicate<? super T> predicate, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return some(list, predicate);
+        List<T> source = randomAccess(list);
+        AtomicBoolean found = new AtomicBoolean();
+        new Parallel.SearchAction<>(source, list, predicate, true, found, 0, source.size(), threshold).invoke();
+        return found.get();
+    }
+
+    /**
+     * Parallel version of <b>topK()</b>. Equivalent to <b>parallelTopK(list, comparator, k, 65536)</b>.
+     */
+    public static <T> List<T> parallelTopK(List<T> list, Comparator<? super T> comparator, int k) {
+        return parallelTopK(list, comparator, k, PARALLEL_SORT_THRESHOLD);
+    }
+
+    /**
+     * Returns the least elements of a list in sorted order, selecting them in parallel. The result is the same as that of <b>topK()</b>, including the order of equal elements.
+     * The list is split into index ranges whose selections are made on the <b>ForkJoinPool</b> of the calling task, or the common pool, and merged. The comparator may be called concurrently.
+     * @param list Source list. It is not modified.
+     * @param comparator Specifies a function that defines the sort order, or <b>null</b> for the natural order.
+     * @param k Number of elements to return. It is limited to <b>list.size()</b>, and negative values are treated as <b>0</b>.
+     * @param threshold Lists smaller than this are processed sequentially. It is also the size of the index ranges handled by a single fork/join task.
+     * @return A new list of the least <b>k</b> elements, sorted.
+     */
+    public static <T> List<T> parallelTopK(List<T> list, Comparator<? super T> comparator, int k, int threshold) {
+        Objects.requireNonNull(list);
+        checkThreshold(threshold);
+        if (list.size() < threshold)
+            return topK(list, comparator, k);
+        List<T> source = randomAccess(list);
+        Selection<T> selection = new Parallel.SelectTask<>(source, order(comparator), Math.max(0, Math.min(k, source.size())), 0, source.size(), threshold).invoke();
+        selection.sort();
+        return selected(selection);
+    }
+
+    /**
+     * Splits a list into the elements that pass the test implemented by the provided function and those that do not, in a single pass.
+     * @param list List to be split.
+     * @param predicate A function to test each element of the list, taking three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>partition()</b> was called upon.</li>
+     * </ul>
+     * @return A new map from <b>true</b> to the elements that pass the test and from <b>false</b> to the others, each in their order in the list and in a list of its exact size.
+     */
+    public static <T> Map<Boolean, List<T>> partition(List<T> list, Predicate<? super T> predicate) {
+        List<T> source = snapshot(list);
+        Grouping grouping = new Grouping(source.size(), 2);
+        Probe probe = Probe.start("partition", list);
+        Predicate<? super T> test = probe == null ? predicate : probe.wrapPredicate(predicate);
+        walk(source, list, (element, index, list1) -> grouping.add(index, test.test(element, index, list1) ? 0 : 1));
+        Map<Boolean, List<T>> result = partitioned(grouping.fill(source));
+        if (probe != null)
+            probe.finish(-1, -1);
+        return result;
+    }
+
+    /**
+     * Removes the last element from a list and returns that element. This method changes the size of the list.
+     * @param list List to be modified.
+     * @return The removed element from the list; <b>null</b> if the list is empty.
+     */
+    public static <T> T pop(List<T> list) {
+        if (list instanceof ConcurrentList)
+            return ((ConcurrentList<T>) list).update(l -> pop(l));
+        if (list.isEmpty())
+            return null;
+        return list.remove(list.size() - 1);
+    }
+
+    /**
+     * Adds one or more elements to the end of a list and returns the new size of the list.
+     * @param list List to be modified.
+     * @param items The element(s) to add to the end of the list.
+     * @return The new size of the list.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> int push(List<T> list, T... items) {
+        if (list instanceof ConcurrentList)
+            return ((ConcurrentList<T>) list).update(l -> push(l, items));
+        list.addAll(Arrays.asList(items));
+        return list.size();
+    }
+
+    /**
+     * Executes a reducer function (that you provide) on each element of the list, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function to execute on each element in the list except for the first. It takes four arguments:
+     * <ul>
+     *     <li>accumulator - The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback.</li>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list. Starts from index <b>1</b>.</li>
+     *     <li>list - The list <b>reduce()</b> was called upon.</li>
+     * </ul>
+     * @return The single value that results from the reduction.
+     * @throws UnsupportedOperationException If <b>list.isEmpty()</b>.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T reduce(List<T> list, Reducer<? super T, T> reducer) {
+        Probe probe = Probe.start("reduce", list);
+        Reducer<? super T, T> function = probe == null ? reducer : probe.wrapReducer(reducer);
+        Object result = guarded(list)
+                ? locked(list, elements -> Specialization.loops(function).reduce(elements, list, function))
+                : Specialization.loops(function).reduce(list, list, function);
+        if (result == Loops.NONE)
+            throw new UnsupportedOperationException("reduce() could not be performed with an empty list without initial value.");
+        if (probe != null)
+            probe.finish(-1, -1);
+        return (T) result;
+    }
+
+    /**
+     * Executes a reducer function (that you provide) on each element of the list, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function to execute on each element in the list. It takes four arguments:
+     * <ul>
+     *     <li>accumulator - The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback or <b>initialValue</b>.</li>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list. Starts from index <b>0</b>.</li>
+     *     <li>list - The list <b>reduce()</b> was called upon.</li>
+     * </ul>
+     * @param initialValue A value to use as the first argument to the first call of the <b>reducer</b>.
+     * @return The single value that results from the reduction.
+     */
+    public static <T, R> R reduce(List<T> list, Reducer<? super T, R> reducer, R initialValue) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("reduce", list);
+        if (probe == null)
+            return fold(list, reducer, initialValue);
+        R result = fold(list, probe.wrapReducer(reducer), initialValue);
+        probe.finish(-1, -1);
+        return result;
+    }
+
+    /**
+     * Executes a reducer function on each element of a <b>IntList</b> except for the first, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function taking the accumulator, the element, its index and <b>list</b>.
+     * @return The single value that results from the reduction.
+     * @throws UnsupportedOperationException If <b>list.isEmpty()</b>.
+     */
+    public static int reduce(IntList list, IntReducer reducer) {
+        if (list.isEmpty())
+            throw new UnsupportedOperationException("reduce() could not be performed with an empty list without initial value.");
+        int accumulator = list.elements[0];
+        for (int i = 1; i < list.size; i++)
+            accumulator = reducer.apply(accumulator, list.elements[i], i, list);
+        return accumulator;
+    }
+
+    /**
+     * Executes a reducer function on each element of a <b>IntList</b>, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function taking the accumulator, the element, its index and <b>list</b>.
+     * @param initialValue A value to use as the first argument to the first call of the <b>reducer</b>.
+     * @return The single value that results from the reduction.
+     */
+    public static int reduce(IntList list, IntReducer reducer, int initialValue) {
+        int accumulator = initialValue;
+        for (int i = 0; i < list.size; i++)
+            accumulator = reducer.apply(accumulator, list.elements[i], i, list);
+        return accumulator;
+    }
+
+    /**
+     * Executes a reducer function on each element of a <b>LongList</b> except for the first, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function taking the accumulator, the element, its index and <b>list</b>.
+     * @return The single value that results from the reduction.
+     * @throws UnsupportedOperationException If <b>list.isEmpty()</b>.
+     */
+    public static long reduce(LongList list, LongReducer reducer) {
+        if (list.isEmpty())
+            throw new UnsupportedOperationException("reduce() could not be performed with an empty list without initial value.");
+        long accumulator = list.elements[0];
+        for (int i = 1; i < list.size; i++)
+            accumulator = reducer.apply(accumulator, list.elements[i], i, list);
+        return accumulator;
+    }
+
+    /**
+     * Executes a reducer function on each element of a <b>LongList</b>, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function taking the accumulator, the element, its index and <b>list</b>.
+     * @param initialValue A value to use as the first argument to the first call of the <b>reducer</b>.
+     * @return The single value that results from the reduction.
+     */
+    public static long reduce(LongList list, LongReducer reducer, long initialValue) {
+        long accumulator = initialValue;
+        for (int i = 0; i < list.size; i++)
+            accumulator = reducer.apply(accumulator, list.elements[i], i, list);
+        return accumulator;
+    }
+
+    /**
+     * Executes a reducer function on each element of a <b>DoubleList</b> except for the first, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function taking the accumulator, the element, its index and <b>list</b>.
+     * @return The single value that results from the reduction.
+     * @throws UnsupportedOperationException If <b>list.isEmpty()</b>.
+     */
+    public static double reduce(DoubleList list, DoubleReducer reducer) {
+        if (list.isEmpty())
+            throw new UnsupportedOperationException("reduce() could not be performed with an empty list without initial value.");
+        double accumulator = list.elements[0];
+        for (int i = 1; i < list.size; i++)
+            accumulator = reducer.apply(accumulator, list.elements[i], i, list);
+        return accumulator;
+    }
+
+    /**
+     * Executes a reducer function on each element of a <b>DoubleList</b>, resulting in single output value.
+     * @param list Source list.
+     * @param reducer A function taking the accumulator, the element, its index and <b>list</b>.
+     * @param initialValue A value to use as the first argument to the first call of the <b>reducer</b>.
+     * @return The single value that results from the reduction.
+     */
+    public static double reduce(DoubleList list, DoubleReducer reducer, double initialValue) {
+        double accumulator = initialValue;
+        for (int i = 0; i < list.size; i++)
+            accumulator = reducer.apply(accumulator, list.elements[i], i, list);
+        return accumulator;
+    }
+
+    /**
+     * Applies a function against an accumulator and each value of the list (from right-to-left) to reduce it to a single value.
+     * @param list Source list.
+     * @param reducer A function to execute on each element in the list. It takes four arguments:
+     * <ul>
+     *     <li>accumulator - The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback.</li>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>reduceRight()</b> was called upon.</li>
+     * </ul>
+     * @return The value that results from the reduction.
+     * @throws UnsupportedOperationException If <b>list.isEmpty()</b>.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T reduceRight(List<T> list, Reducer<? super T, T> reducer) {
+        Probe probe = Probe.start("reduceRight", list);
+        Reducer<? super T, T> function = probe == null ? reducer : probe.wrapReducer(reducer);
+        Object result = guarded(list)
+                ? locked(list, elements -> Specialization.loops(function).reduceRight(elements, list, function))
+                : Specialization.loops(function).reduceRight(list, list, function);
+        if (result == Loops.NONE)
+            throw new UnsupportedOperationException("reduceRight() could not be performed with an empty list without initial value.");
+        if (probe != null)
+            probe.finish(-1, -1);
+        return (T) result;
+    }
+
+    /**
+     * Applies a function against an accumulator and each value of the list (from right-to-left) to reduce it to a single value.
+     * @param list Source list.
+     * @param reducer A function to execute on each element in the list. It takes four arguments:
+     * <ul>
+     *     <li>accumulator - The accumulator accumulates callback's return values. It is the accumulated value previously returned in the last invocation of the callback or <b>initialValue</b>.</li>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>reduceRight()</b> was called upon.</li>
+     * </ul>
+     * @return The value that results from the reduction.
+     */
+    public static <T, R> R reduceRight(List<T> list, Reducer<? super T, R> reducer, R initialValue) {
+        Probe probe = Probe.start("reduceRight", list);
+        if (probe == null)
+            return foldRight(list, reducer, initialValue);
+        R result = foldRight(list, probe.wrapReducer(reducer), initialValue);
+        probe.finish(-1, -1);
+        return result;
+    }
+
+    /**
+     * Creates a view of a list with a segment tree of partial reductions, for lists whose ranges are reduced many times.
+     * <b>reduce(start, end)</b> and <b>reduceRight(start, end)</b> called on the view take O(log n) instead of a pass over the range.
+     * The tree follows changes made through the view, including those made by the methods of this class, either directly or by rebuilding itself on the next reduction.
+     * @param list List to be reduced. Further changes should be made through the returned view.
+     * @param operator An associative function combining two values, e.g. <b>Integer::sum</b>. Unlike a <b>Reducer</b>, it is not given the index, which changes as elements are added or removed in front.
+     * @param identity The identity value of <b>operator</b>, which is the reduction of an empty range.
+     * @return A <b>ReductionList</b> view of <b>list</b>.
+     */
+    public static <T> ReductionList<T> reduction(List<T> list, BinaryOperator<T> operator, T identity) {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(operator);
+        return ReductionList.of(list, operator, identity);
+    }
+
+    /**
+     * Reverses a list in place. The first list element becomes the last, and the last list element becomes the first.
+     * @param list List to be modified.
+     * @return The reversed list.
+     */
+    public static <T> List<T> reverse(List<T> list) {
+        if (list instanceof ConcurrentList) {
+            ((ConcurrentList<T>) list).update(l -> reverse(l));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        if (list instanceof RingBufferList)
+            ((RingBufferList<T>) list).reverse();
+        else if (list instanceof RecordList)
+            ((RecordList<T>) list).reverse(0, list.size());
+        else if (list instanceof GapBufferList)
+            ((GapBufferList<T>) list).reverse(0, list.size());
+        else
+            Collections.reverse(list);
+        return list;
+    }
+
+    /**
+     * Reverses a <b>IntList</b> in place.
+     * @param list List to be modified.
+     * @return The reversed list.
+     */
+    public static IntList reverse(IntList list) {
+        int[] elements = list.elements;
+        for (int i = 0, j = list.size - 1; i < j; i++, j--) {
+            int temp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = temp;
+        }
+        return list;
+    }
+
+    /**
+     * Reverses a <b>LongList</b> in place.
+     * @param list List to be modified.
+     * @return The reversed list.
+     */
+    public static LongList reverse(LongList list) {
+        long[] elements = list.elements;
+        for (int i = 0, j = list.size - 1; i < j; i++, j--) {
+            long temp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = temp;
+        }
+        return list;
+    }
+
+    /**
+     * Reverses a <b>DoubleList</b> in place.
+     * @param list List to be modified.
+     * @return The reversed list.
+     */
+    public static DoubleList reverse(DoubleList list) {
+        double[] elements = list.elements;
+        for (int i = 0, j = list.size - 1; i < j; i++, j--) {
+            double temp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = temp;
+        }
+        return list;
+    }
+
+    /**
+     * Removes the first element from an array and returns that removed element. This method changes the length of the array.
+     * @param list List to be modified.
+     * @return The removed element from the list; <b>null</b> if the list is empty.
+     */
+    public static <T> T shift(List<T> list) {
+        if (list instanceof ConcurrentList)
+            return ((ConcurrentList<T>) list).update(l -> shift(l));
+        if (list.isEmpty())
+            return null;
+        if (list instanceof RingBufferList)
+            return ((RingBufferList<T>) list).removeFirst();
+        return list.remove(0);
+    }
+
+    /**
+     * Returns a shallow copy of a list.
+     * @deprecated Please use <b>new ArrayList<>(list)</b> directly.
+     */
+    @Deprecated
+    public static <T> List<T> slice(List<T> list) {
+        return new ArrayList<>(list);
+    }
+
+    /**
+     * Returns a shallow copy of a portion of a list into a new list object selected from <b>start</b> to <b>end</b> (<b>end</b> not included) where <b>start</b> and <b>end</b> (default <b>list.size()</b>) represent the index of items in that list. The original list will not be modified.
+     * @param list Source list.
+     * @param start Zero-based index at which to start extraction. A negative index can be used, indicating an offset from the end of the sequence.
+     * @return A new list containing the extracted elements.
+     */
+    public static <T> List<T> slice(List<T> list, int start) {
+        Objects.requireNonNull(list);
+        if (start < 0) {
+            start += list.size();
+            if (start < 0)
+                start = 0;
+        } else if (start >= list.size())
+            return list instanceof PersistentVector ? PersistentVector.empty() : new ArrayList<>();
+        if (list instanceof PersistentVector)
+            return ((PersistentVector<T>) list).slice(start, list.size());
+        return list.subList(start, list.size());
+    }
+
+    /**
+     * Returns a shallow copy of a portion of a list into a new list object selected from <b>start</b> to <b>end</b> (<b>end</b> not included) where <b>start</b> and <b>end</b> (default <b>list.size()</b>) represent the index of items in that list. The original list will not be modified.
+     * @param list Source list.
+     * @param start Zero-based index at which to start extraction. A negative index can be used, indicating an offset from the end of the sequence.
+     * @param end Zero-based index before which to end extraction. <b>slice</b> extracts up to but not including <b>end</b>. A negative index can be used, indicating an offset from the end of the sequence.
+     * @return A new list containing the extracted elements.
+     */
+    public static <T> List<T> slice(List<T> list, int start, int end) {
+        Objects.requireNonNull(list);
+        if (start < 0) {
+            start += list.size();
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += list.size();
+        else if (end > list.size())
+            end = list.size();
+        if (end <= start)
+            return list instanceof PersistentVector ? PersistentVector.empty() : new ArrayList<>();
+        if (list instanceof PersistentVector)
+            return ((PersistentVector<T>) list).slice(start, end);
+        return list.subList(start, end);
+    }
+
+    /**
+     * Tests whether at least one element in the list passes the test implemented by the provided function. It returns true if, in the list, it finds an element for which the provided function returns true; otherwise it returns false. It doesn't modify the list.
+     * @param list List under test.
+     * @param predicate A function to test for each element, taking three arguments:
+     * <ul>
+     *     <li>element - The current element being processed in the list.</li>
+     *     <li>index - The index of the current element being processed in the list.</li>
+     *     <li>list - The list <b>some()</b> was called upon.</li>
+     * </ul>
+     * @return <b>true</b> if the callback function returns a truthy value for at least one element in the list. Otherwise, <b>false</b>.
+     */
+    public static <T> boolean some(List<T> list, Predicate<? super T> predicate) {
+        Objects.requireNonNull(list);
+        Probe probe = Probe.start("some", list);
+        if (probe == null)
+            return scan(list, predicate, true) >= 0;
+        int index = scan(list, probe.wrapPredicate(predicate), true);
+        probe.finish(index, -1);
+        return index >= 0;
+    }
+
+    /**
+     * Sorts the elements of a list in place and returns the sorted list. The elements are ordered by their string conversions, and <b>null</b> elements are placed last. The sort is stable.
+     * @param list List to be modified.
+     * @return The sorted list. Note that the list is sorted in place, and no copy is made.
+     */
+    public static <T> List<T> sort(List<T> list) {
+        if (list instanceof ConcurrentList) {
+            ((ConcurrentList<T>) list).update(l -> sort(l));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        Object[] elements = list.toArray();
+        if (elements.length < 2)
+            return list;
+        boolean strings = true;
+        for (Object element : elements)
+            if (!(element instanceof String)) {
+                strings = false;
+                break;
+            }
+        if (strings)
+            sortArray(elements, STRING_ORDER);
+        else {
+            // Convert every element to its string only once instead of twice per comparison.
+            Keyed[] keyed = new Keyed[elements.length];
+            for (int i = 0; i < elements.length; i++)
+                keyed[i] = new Keyed(elements[i]);
+            sortArray(keyed, KEYED_ORDER);
+            for (int i = 0; i < elements.length; i++)
+                elements[i] = keyed[i].element;
+        }
+        setAll(list, elements);
+        return list;
+    }
+
+    /**
+     * Sorts the elements of a list in place and returns the sorted list.
+     * @param list List to be modified.
+     * @param comparator Specifies a function that defines the sort order, taking two arguments:
+     * <ul>
+     *     <li>o1 - The first element for comparison.</li>
+     *     <li>o2 - The second element for comparison.</li>
+     * </ul>
+     * @return The sorted list. Note that the list is sorted in place, and no copy is made.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> sort(List<T> list, Comparator<? super T> comparator) {
+        if (list instanceof ConcurrentList) {
+            ((ConcurrentList<T>) list).update(l -> sort(l, comparator));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        if (list.size() < PARALLEL_SORT_THRESHOLD) {
+            list.sort(comparator);
+            return list;
+        }
+        Object[] elements = list.toArray();
+        Arrays.parallelSort((T[]) elements, comparator);
+        setAll(list, elements);
+        return list;
+    }
+
+    /**
+     * Sorts the elements of a <b>IntList</b> in place in ascending numeric order, as the sort of a TypedArray does in ECMAScript.
+     * @param list List to be modified.
+     * @return The sorted list.
+     */
+    public static IntList sort(IntList list) {
+        Arrays.sort(list.elements, 0, list.size);
+        return list;
+    }
+
+    /**
+     * Sorts the elements of a <b>LongList</b> in place in ascending numeric order, as the sort of a TypedArray does in ECMAScript.
+     * @param list List to be modified.
+     * @return The sorted list.
+     */
+    public static LongList sort(LongList list) {
+        Arrays.sort(list.elements, 0, list.size);
+        return list;
+    }
+
+    /**
+     * Sorts the elements of a <b>DoubleList</b> in place in ascending numeric order, as the sort of a TypedArray does in ECMAScript. <b>NaN</b> values are placed last.
+     * @param list List to be modified.
+     * @return The sorted list.
+     */
+    public static DoubleList sort(DoubleList list) {
+        Arrays.sort(list.elements, 0, list.size);
+        return list;
+    }
+
+    /**
+     * Sorts only the first positions of a list in place, putting its least <b>k</b> elements there in sorted order. It takes O(n log k) rather than the O(n log n) of a full sort.
+     * Like <b>sort()</b>, the sort is stable. The other elements follow in their original relative order.
+     * @param list List to be modified.
+     * @param comparator Specifies a function that defines the sort order, or <b>null</b> for the natural order.
+     * @param k Number of positions to sort. It is limited to <b>list.size()</b>, and negative values are treated as <b>0</b>.
+     * @return The partially sorted list. Note that the list is sorted in place, and no copy is made.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> sortSlice(List<T> list, Comparator<? super T> comparator, int k) {
+        if (list instanceof ConcurrentList) {
+            ((ConcurrentList<T>) list).update(l -> sortSlice(l, comparator, k));
+            return list;
+        }
+        Objects.requireNonNull(list);
+        Object[] elements = list.toArray();
+        int count = Math.max(0, Math.min(k, elements.length));
+        if (count == 0)
+            return list;
+        if (count == elements.length)
+            return sort(list, comparator);
+        Selection<T> selection = select((List<T>) Arrays.asList(elements), order(comparator), count);
+        Object[] result = new Object[elements.length];
+        boolean[] selected = new boolean[elements.length];
+        for (int i = 0; i < count; i++) {
+            result[i] = selection.elements[i];
+            selected[selection.indices[i]] = true;
+        }
+        for (int i = 0, j = count; i < elements.length; i++)
+            if (!selected[i])
+                result[j++] = elements[i];
+        setAll(list, result);
+        return list;
+    }
+
+    /**
+     * Changes the contents of a list by removing or replacing existing elements and/or adding new elements in place.
+     * @param list List to be modified.
+     * @param start The index at which to start changing the list.
+     * @return A list containing the deleted elements.
+     */
+    public static <T> List<T> splice(List<T> list, int start) {
+        if (list instanceof ConcurrentList) {
+            int from = start;
+            return ((ConcurrentList<T>) list).update(l -> splice(l, from));
+        }
+        Objects.requireNonNull(list);
+        if (start < 0) {
+            start += list.size();
+            if (start < 0)
+                start = 0;
+        } else if (start >= list.size())
+            return new ArrayList<>();
+        List<T> range = list.subList(start, list.size());
+        List<T> removed = new ArrayList<>(range);
+        range.clear();
+        return removed;
+    }
+
+    /**
+     * Changes the contents of a list by removing or replacing existing elements and/or adding new elements in place.
+     * @param list List to be modified.
+     * @param start The index at which to start changing the list.
+     * @param deleteCount An integer indicating the number of elements in the list to remove from <b>start</b>.
+     * @param items The elements to add to the array, beginning from <b>start</b>.
+     * @return A list containing the deleted elements.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> List<T> splice(List<T> list, int start, int deleteCount, T... items) {
+        if (list instanceof ConcurrentList) {
+            int from = start, count = deleteCount;
+            return ((ConcurrentList<T>) list).update(l -> splice(l, from, count, items));
+        }
+        Objects.requireNonNull(list);
+        if (start < 0) {
+            start += list.size();
+            if (start < 0)
+                start = 0;
+        }
+        if (start > list.size())
+            start = list.size();
+        if (deleteCount < 0)
+            deleteCount = 0;
+        else if (deleteCount > list.size() - start)
+            deleteCount = list.size() - start;
+        List<T> range = list.subList(start, start + deleteCount);
+        List<T> removed = new ArrayList<>(range);
+        // Overwrite the removed elements that are replaced one-for-one, then remove or insert the rest as a single range.
+        // Random access lists are written by index, since the iterators of some of them, such as that of a CopyOnWriteArrayList sublist, do not support set.
+        int replaced = Math.min(deleteCount, items.length);
+        if (list instanceof RandomAccess)
+            for (int i = 0; i < replaced; i++)
+                list.set(start + i, items[i]);
+        else {
+            ListIterator<T> iterator = range.listIterator();
+            for (int i = 0; i < replaced; i++) {
+                iterator.next();
+                iterator.set(items[i]);
+            }
+        }
+        if (deleteCount > replaced)
+            list.subList(start + replaced, start + deleteCount).clear();
+        else if (items.length > replaced)
+            list.addAll(start + replaced, Arrays.asList(items).subList(replaced, items.length));
+        return removed;
+    }
+
+    /**
+     * Returns the least elements of a list in sorted order, as <b>slice(sort(copy, comparator), 0, k)</b> would, without sorting the whole list. It takes O(n log k) by keeping the least elements seen in a heap.
+     * Like <b>sort()</b>, the selection is stable: equal elements keep their order in the list.
+     * @param list Source list. It is not modified.
+     * @param comparator Specifies a function that defines the sort order, or <b>null</b> for the natural order.
+     * @param k Number of elements to return. It is limited to <b>list.size()</b>, and negative values are treated as <b>0</b>.
+     * @return A new list of the least <b>k</b> elements, sorted.
+     */
+    public static <T> List<T> topK(List<T> list, Comparator<? super T> comparator, int k) {
+        if (guarded(list))
+            return locked(list, elements -> topK(elements, comparator, k));
+        return selected(select(list, order(comparator), Math.max(0, Math.min(k, list.size()))));
+    }
+
+    /**
+     * Returns the elements of a list in reverse order, without changing the list.
+     * @param list Source list.
+     * @return A read-only view of <b>list</b> in reverse order if it can never change, such as a list from <b>List.of()</b> or a view returned by this method, or of the snapshot of a concurrent list. Otherwise, a new list, as in ECMAScript.
+     */
+    public static <T> List<T> toReversed(List<T> list) {
+        List<T> source = stable(list);
+        if (source != null)
+            return new ListView.Reversed<>(source);
+        ArrayList<T> result = new ArrayList<>(list.size());
+        ListIterator<T> iterator = list.listIterator(list.size());
+        while (iterator.hasPrevious())
+            result.add(iterator.previous());
+        return result;
+    }
+
+    /**
+     * Returns the elements of a list sorted by their string forms, without changing the list.
+     * @param list Source list.
+     * @return A new sorted list.
+     */
+    public static <T> List<T> toSorted(List<T> list) {
+        return sort(new ArrayList<>(list));
+    }
+
+    /**
+     * Returns the elements of a list sorted by a comparator, without changing the list.
+     * @param list Source list.
+     * @param comparator Specifies a function that defines the sort order.
+     * @return A new sorted list.
+     */
+    public static <T> List<T> toSorted(List<T> list, Comparator<? super T> comparator) {
+        return sort(new ArrayList<>(list), comparator);
+    }
+
+    /**
+     * Returns the elements of a list with those from an index on removed, without changing the list.
+     * @param list Source list.
+     * @param start The index at which to start removing elements.
+     * @return A read-only view or a new list, as described in <b>toSpliced(list, start, deleteCount, items)</b>.
+     */
+    public static <T> List<T> toSpliced(List<T> list, int start) {
+        return toSpliced(list, start, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the elements of a list with some removed and/or replaced, as <b>splice()</b> would leave them, without changing the list.
+     * @param list Source list.
+     * @param start The index at which to start changing the list.
+     * @param deleteCount An integer indicating the number of elements in the list to remove from <b>start</b>.
+     * @param items The elements to add, beginning from <b>start</b>.
+     * @return If <b>list</b> is a <b>PersistentVector</b>, a new <b>PersistentVector</b> sharing structure with it. Otherwise, a read-only view of <b>list</b> if it can never change, such as a list from <b>List.of()</b> or a view returned by this method, or of the snapshot of a concurrent list. Otherwise, a new list, as in ECMAScript.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> List<T> toSpliced(List<T> list, int start, int deleteCount, T... items) {
+        Objects.requireNonNull(list);
+        List<T> source = stable(list);
+        int size = source == null ? list.size() : source.size();
+        if (start < 0) {
+            start += size;
+            if (start < 0)
+                start = 0;
+        }
+        if (start > size)
+            start = size;
+        if (deleteCount < 0)
+            deleteCount = 0;
+        else if (deleteCount > size - start)
+            deleteCount = size - start;
+        if (source instanceof PersistentVector)
+            return ((PersistentVector<T>) source).delete(start, start + deleteCount).insert(start, Arrays.asList(items));
+        if (source != null)
+            return new ListView.Spliced<>(source, start, deleteCount, items);
+        ArrayList<T> result = new ArrayList<>(size - deleteCount + items.length);
+        Iterator<T> iterator = list.iterator();
+        for (int i = 0; i < start; i++)
+            result.add(iterator.next());
+        Collections.addAll(result, items);
+        for (int i = 0; i < deleteCount; i++)
+            iterator.next();
+        while (iterator.hasNext())
+            result.add(iterator.next());
+        return result;
+    }
+
+    /**
+     * Equivalent to <b>join(list)</b>.
+     * Consider using list.toString() depends on your purpose.
+     */
+    public static <T> String toString(List<T> list) {
+        return join(list);
+    }
+
+    /**
+     * Adds one or more elements to the beginning of a list and returns the new size of the list.
+     * @param list List to be modified.
+     * @param items The elements to add to the front of the list.
+     * @return The new size of the list.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> int unshift(List<T> list, T... items) {
+        if (list instanceof ConcurrentList)
+            return ((ConcurrentList<T>) list).update(l -> unshift(l, items));
+        list.addAll(0, Arrays.asList(items));
+        return list.size();
+    }
+
+    /**
+     * Returns the elements of a list with the one at an index replaced, without changing the list.
+     * @param list Source list.
+     * @param index Zero-based index of the element to replace. If index is negative, it is treated as <b>list.size() + index</b>.
+     * @param item The new element.
+     * @return If <b>list</b> is a <b>PersistentVector</b>, a new <b>PersistentVector</b> sharing structure with it. Otherwise, a read-only view of <b>list</b> if it can never change, such as a list from <b>List.of()</b> or a view returned by this method, or of the snapshot of a concurrent list. Otherwise, a new list, as in ECMAScript.
+     * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+     */
+    public static <T> List<T> with(List<T> list, int index, T item) {
+        Objects.requireNonNull(list);
+        List<T> source = stable(list);
+        int size = source == null ? list.size() : source.size();
+        if (index < 0)
+            index += size;
+        Objects.checkIndex(index, size);
+        if (source instanceof PersistentVector)
+            return ((PersistentVector<T>) source).with(index, item);
+        if (source != null)
+            return new ListView.With<>(source, index, item);
+        ArrayList<T> result = new ArrayList<>(list);
+        result.set(index, item);
+        return result;
+    }
+
+    /*
+     * Traversal engine shared by the callback methods.
+     * The engine traverses source and passes list, the list the method was called upon, to the callbacks. The source is list itself, or a snapshot for the methods that read it more than once. A guarded list (a ConcurrentList, a Vector or a synchronized list) is traversed in place holding its lock, so that concurrent writers are neither seen nor able to break the traversal; for a ConcurrentList, the source is then the list behind the lock.
+     * RandomAccess lists are walked by index, re-reading source.size() on every step so that callbacks may shrink or grow the list as in ECMAScript.
+     * Other lists, and CopyOnWriteArrayList, are walked with a ListIterator, which keeps the traversal linear. When a callback modifies the list structurally, the loop takes a new iterator at the next index, so that it sees the same elements as a walk by index. The iterator of a CopyOnWriteArrayList walks the snapshot of its array it started with, at no cost.
+     * The loops themselves are in TraversalLoops; Specialization may run them from a copy of their own for each hot callback class, so that the callback site stays monomorphic.
+     */
+
+    /**
+     * Returns the index of the first element for which <b>predicate</b> returns <b>expected</b>, or <b>-1</b> if there is none.
+     */
+    static <T> int scan(List<T> list, Predicate<? super T> predicate, boolean expected) {
+        if (guarded(list))
+            return locked(list, elements -> Specialization.loops(predicate).scan(elements, list, predicate, expected));
+        return Specialization.loops(predicate).scan(list, list, predicate, expected);
+    }
+
+    private static <T> int scanRight(List<T> list, Predicate<? super T> predicate) {
+        if (guarded(list))
+            return locked(list, elements -> Specialization.loops(predicate).scanRight(elements, list, predicate));
+        return Specialization.loops(predicate).scanRight(list, list, predicate);
+    }
+
+    /**
+     * Passes the elements of <b>source</b> to <b>consumer</b>, with <b>list</b>. <b>source</b> is either <b>list</b> or a snapshot of it.
+     */
+    private static <T> void walk(List<T> source, List<T> list, Consumer<? super T> consumer) {
+        if (guarded(source))
+            locked(source, elements -> {
+                Specialization.loops(consumer).walk(elements, list, consumer);
+                return null;
+            });
+        else
+            Specialization.loops(consumer).walk(source, list, consumer);
+    }
+
+    private static <T, R> List<R> map(List<T> source, List<T> list, Mapper<? super T, ? extends R> mapper) {
+        List<R> result = new ArrayList<>(source.size());
+        Specialization.loops(mapper).map(source, list, mapper, result);
+        return result;
+    }
+
+    private static <T, R> R fold(List<T> list, Reducer<? super T, R> reducer, R accumulator) {
+        if (guarded(list))
+            return locked(list, elements -> Specialization.loops(reducer).fold(elements, list, reducer, accumulator));
+        return Specialization.loops(reducer).fold(list, list, reducer, accumulator);
+    }
+
+    private static <T, R> R foldRight(List<T> list, Reducer<? super T, R> reducer, R accumulator) {
+        if (guarded(list))
+            return locked(list, elements -> Specialization.loops(reducer).foldRight(elements, list, reducer, accumulator));
+        return Specialization.loops(reducer).foldRight(list, list, reducer, accumulator);
+    }
+
+    /**
+     * Returns whether <b>list</b> guards its elements with a lock, which the methods that read it once hold while they traverse it.
+     */
+    private static boolean guarded(List<?> list) {
+        return list instanceof ConcurrentList || list instanceof Vector || SYNCHRONIZED_LISTS.contains(list.getClass());
+    }
+
+    /**
+     * Runs <b>traversal</b> over the elements of a guarded list in place, holding its lock, so that they are neither copied nor changed by other threads meanwhile.
+     * A <b>ConcurrentList</b> is traversed under its read lock. A <b>Vector</b> or a list of <b>Collections.synchronizedList</b> is traversed holding its monitor, on which its own methods synchronize.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, R> R locked(List<T> list, Function<? super List<T>, ? extends R> traversal) {
+        if (list instanceof ConcurrentList)
+            return ((ConcurrentList<T>) list).traverse(traversal);
+        synchronized (list) {
+            return traversal.apply(list);
+        }
+    }
+
+    /**
+     * Returns a consistent snapshot of <b>list</b> if it is written concurrently by design, otherwise <b>list</b> itself, for the methods that read the list more than once.
+     * The snapshot of a <b>CopyOnWriteArrayList</b> is a single copy of its current array, taken without locking. Methods that read the list once traverse a <b>ConcurrentList</b> in place under its read lock instead.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> snapshot(List<T> list) {
+        if (list instanceof ConcurrentList)
+            return ((ConcurrentList<T>) list).snapshot();
+        if (list instanceof CopyOnWriteArrayList)
+            return (List<T>) Arrays.asList(list.toArray());
+        return list;
+    }
+
+    /**
+     * Passes the elements of <b>source</b> to <b>consumer</b> in batches, refilling one buffer.
+     */
+    private static <T> void batch(List<T> source, List<T> list, int batchSize, long maxBatchBytes, ToLongFunction<? super T> estimator, BatchConsumer<? super T> consumer) {
+        if (guarded(source)) {
+            locked(source, elements -> {
+                batch(elements, list, batchSize, maxBatchBytes, estimator, consumer);
+                return null;
+            });
+            return;
+        }
+        ArrayList<T> buffer = new ArrayList<>(Math.min(batchSize, source.size()));
+        List<T> batch = Collections.unmodifiableList(buffer);
+        int startIndex = 0;
+        long bytes = 0;
+        for (T element : source) {
+            long size = estimator.applyAsLong(element);
+            if (!buffer.isEmpty() && (buffer.size() == batchSize || bytes + size > maxBatchBytes)) {
+                consumer.accept(batch, startIndex, list);
+                startIndex += buffer.size();
+                buffer.clear();
+                bytes = 0;
+            }
+            buffer.add(element);
+            bytes += size;
+        }
+        if (!buffer.isEmpty())
+            consumer.accept(batch, startIndex, list);
+    }
+
+    /**
+     * Adds the elements of <b>collection</b> to <b>result</b> one by one, which unlike <b>addAll</b> does not copy them into an intermediate array.
+     */
+    private static <T> void append(List<T> result, Collection<? extends T> collection) {
+        if (collection instanceof RandomAccess && collection instanceof List) {
+            List<? extends T> list = (List<? extends T>) collection;
+            for (int i = 0; i < list.size(); i++)
+                result.add(list.get(i));
+        } else
+            for (T element : collection)
+                result.add(element);
+    }
+
+    private static <T> void appendJoined(List<T> list, String separator, Appendable appendable) throws IOException {
+        boolean first = true;
+        for (T element : list) {
+            if (first)
+                first = false;
+            else
+                appendable.append(separator);
+            if (element instanceof CharSequence)
+                appendable.append((CharSequence) element);
+            else if (element != null)
+                appendable.append(element.toString());
+        }
+    }
+
+    /**
+     * Returns the exact length of the joined string if every element is a <b>CharSequence</b> or <b>null</b>, otherwise the length of the separators alone.
+     */
+    private static <T> int joinedLength(List<T> list, String separator) {
+        long length = (long) separator.length() * (list.size() - 1);
+        for (T element : list)
+            if (element instanceof CharSequence)
+                length += ((CharSequence) element).length();
+            else if (element != null) {
+                length = (long) separator.length() * (list.size() - 1);
+                break;
+            }
+        return (int) Math.min(length, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Returns the exact length of the joined string of an <b>IntList</b>.
+     */
+    private static int joinedLength(IntList list, String separator) {
+        long length = (long) separator.length() * (list.size - 1);
+        for (int i = 0; i < list.size; i++)
+            length += digits(list.elements[i]);
+        return (int) Math.min(length, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Returns the exact length of the joined string of a <b>LongList</b>.
+     */
+    private static int joinedLength(LongList list, String separator) {
+        long length = (long) separator.length() * (list.size - 1);
+        for (int i = 0; i < list.size; i++)
+            length += digits(list.elements[i]);
+        return (int) Math.min(length, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Returns an estimate of the length of the joined string of a <b>DoubleList</b>, from the average length of its first elements, which <b>Double.toString</b> prints in up to 24 characters.
+     */
+    private static int joinedLength(DoubleList list, String separator) {
+        int sample = Math.min(list.size, 16);
+        long sampled = 0;
+        for (int i = 0; i < sample; i++)
+            sampled += Double.toString(list.elements[i]).length();
+        long length = (long) separator.length() * (list.size - 1) + (sampled * list.size + sample - 1) / sample;
+        return (int) Math.min(length, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Returns the number of characters of <b>value</b> in decimal, including the minus sign.
+     */
+    private static int digits(long value) {
+        int digits = value < 0 ? 2 : 1;
+        // Counted on the negative value, since Long.MIN_VALUE has no positive counterpart.
+        for (long n = value < 0 ? value : -value; n <= -10; n /= 10)
+            digits++;
+        return digits;
+    }
+
+    /**
+     * Replaces the elements of <b>list</b> with <b>elements</b>, which has the same size, in a single <b>replaceAll</b>.
+     * That writes an <b>ArrayList</b> in place and copies the array of a <b>CopyOnWriteArrayList</b> only once, where writing element by element would copy it for every element.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void setAll(List<T> list, Object[] elements) {
+        if (list instanceof IndexedList)
+            ((IndexedList<T>) list).reindex();
+        else if (list instanceof ReductionList)
+            ((ReductionList<T>) list).reindex();
+        int[] index = {0};
+        list.replaceAll(element -> (T) elements[index[0]++]);
+    }
+
+    /**
+     * Selects the least <b>k</b> elements of <b>source</b> and orders them ascending.
+     */
+    private static <T> Selection<T> select(List<T> source, Comparator<? super T> comparator, int k) {
+        Selection<T> selection = new Selection<>(comparator, k);
+        int index = 0;
+        for (T element : source)
+            selection.offer(element, index++);
+        selection.sort();
+        return selection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> selected(Selection<T> selection) {
+        List<T> result = new ArrayList<>(selection.size);
+        for (int i = 0; i < selection.size; i++)
+            result.add((T) selection.elements[i]);
+        return result;
+    }
+
+    /**
+     * Returns the map of <b>partition()</b> from the two groups, the passing one first.
+     */
+    private static <T> Map<Boolean, List<T>> partitioned(List<List<T>> groups) {
+        Map<Boolean, List<T>> result = new LinkedHashMap<>(4);
+        result.put(true, groups.get(0));
+        result.put(false, groups.get(1));
+        return result;
+    }
+
+    /**
+     * Returns the initial capacity of a <b>HashMap</b> that holds <b>size</b> entries without rehashing.
+     */
+    private static int capacity(int size) {
+        return (int) Math.min(size / 0.75 + 1, 1 << 30);
+    }
+
+    /**
+     * Returns <b>comparator</b>, or the natural order if it is <b>null</b>, as <b>List.sort</b> does.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> order(Comparator<? super T> comparator) {
+        return comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Sorts stably, in parallel for large arrays.
+     */
+    private static <E> void sortArray(E[] array, Comparator<? super E> comparator) {
+        if (array.length < PARALLEL_SORT_THRESHOLD)
+            Arrays.sort(array, comparator);
+        else
+            Arrays.parallelSort(array, comparator);
+    }
+
+    /**
+     * Maps the elements of <b>spliterator</b>, up to <b>limit</b> of them, into a new list in one pass. A <b>null</b> mapper adds the elements themselves.
+     */
+    private static <T, R> List<R> collect(Spliterator<? extends T> spliterator, Mapper<? super T, ? extends R> mapper, int limit) {
+        checkLimit(limit);
+        long estimate = spliterator.estimateSize();
+        boolean sized = spliterator.hasCharacteristics(Spliterator.SIZED);
+        int capacity = estimate == Long.MAX_VALUE ? 10 : (int) Math.min(Math.min(estimate, limit), Integer.MAX_VALUE - 8);
+        Ingest<T, R> ingest = new Ingest<>(new ArrayList<>(capacity), mapper);
+        if (limit == Integer.MAX_VALUE || sized && estimate <= limit)
+            spliterator.forEachRemaining(ingest);
+        else
+            while (ingest.index < limit && spliterator.tryAdvance(ingest));
+        if (!sized && ingest.result.size() < capacity / 2)
+            ingest.result.trimToSize();
+        return ingest.result;
+    }
+
+    /**
+     * Maps the elements of <b>spliterator</b>, up to <b>limit</b> of them, into a new list in parallel if it is <b>SUBSIZED</b> and not smaller than <b>threshold</b>, otherwise as <b>collect</b> does.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, R> List<R> collectParallel(Spliterator<? extends T> spliterator, Mapper<? super T, ? extends R> mapper, int limit, int threshold) {
+        checkLimit(limit);
+        long size = spliterator.estimateSize();
+        if (!spliterator.hasCharacteristics(Spliterator.SUBSIZED) || Math.min(size, limit) < threshold)
+            return collect(spliterator, mapper, limit);
+        Object[] result = new Object[(int) Math.min(Math.min(size, limit), Integer.MAX_VALUE - 8)];
+        new Parallel.SpliteratorAction<T, R>(spliterator, mapper, result, 0, threshold).invoke();
+        return new ArrayList<>((List<R>) Arrays.asList(result));
+    }
+
+    /**
+     * Adds the elements passed to it to <b>result</b>, mapped by <b>mapper</b> unless it is <b>null</b>, counting them in <b>index</b>.
+     */
+    private static final class Ingest<T, R> implements java.util.function.Consumer<T> {
+        final ArrayList<R> result;
+        final Mapper<? super T, ? extends R> mapper;
+        int index;
+
+        Ingest(ArrayList<R> result, Mapper<? super T, ? extends R> mapper) {
+            this.result = result;
+            this.mapper = mapper;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void accept(T element) {
+            result.add(mapper == null ? (R) element : mapper.apply(element, index, null));
+            index++;
+        }
+    }
+
+    /**
+     * An element decorated with its sort key for <b>sort(list)</b>.
+     */
+    private static final class Keyed {
+        final String key;
+        final Object element;
+
+        Keyed(Object element) {
+            this.key = element == null ? null : element.toString();
+            this.element = element;
+        }
+    }
+
+    /**
+     * Returns <b>list</b> itself if it supports fast random access, otherwise a copy that does. Concurrent lists are replaced by their snapshot.
+     */
+    private static <T> List<T> randomAccess(List<T> list) {
+        List<T> source = snapshot(list);
+        return source instanceof RandomAccess ? source : new ArrayList<>(source);
+    }
+
+    /**
+     * Returns <b>list</b> if its elements can never change, or the snapshot of a concurrent list, for the methods returning views; otherwise <b>null</b>, and those methods copy the list instead.
+     */
+    private static <T> List<T> stable(List<T> list) {
+        List<T> source = snapshot(list);
+        return source instanceof RandomAccess && (source != list || ListView.immutable(list)) ? source : null;
+    }
+
+    /**
+     * Returns a copy of the current elements of <b>list</b>, for the methods that keep reading them after they return.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> copy(List<T> list) {
+        return (List<T>) Arrays.asList(list.toArray());
+    }
+
+    private static void checkBatch(int batchSize, long maxBatchBytes) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        if (maxBatchBytes < 1)
+            throw new IllegalArgumentException("maxBatchBytes must be positive: " + maxBatchBytes);
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+    }
+
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+    }
+
+    private static int search(List<?> list, Object item, int fromIndex) {
+        if (list instanceof IndexedList)
+            return ((IndexedList<?>) list).indexOf(item, fromIndex);
+        if (list instanceof RandomAccess) {
+            for (int i = fromIndex; i < list.size(); i++)
+                if (Objects.equals(list.get(i), item))
+                    return i;
+            return -1;
+        }
+        ListIterator<?> iterator = list.listIterator(fromIndex);
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            if (Objects.equals(iterator.next(), item))
+                return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Searches from <b>fromIndex</b> down to <b>0</b>.
+     */
+    private static int searchBackward(List<?> list, Object item, int fromIndex) {
+        if (list instanceof IndexedList)
+            return ((IndexedList<?>) list).lastIndexOf(item, fromIndex);
+        if (list instanceof RandomAccess) {
+            for (int i = fromIndex; i >= 0; i--)
+                if (Objects.equals(list.get(i), item))
+                    return i;
+            return -1;
+        }
+        ListIterator<?> iterator = list.listIterator(fromIndex + 1);
+        while (iterator.hasPrevious()) {
+            int index = iterator.previousIndex();
+            if (Objects.equals(iterator.previous(), item))
+                return index;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Read-only views behind the copy-free methods of <b>ListUtil</b>, such as <b>toReversed</b>, <b>toSpliced</b> and <b>with</b>.
+ * Each view maps its indices onto <b>list</b>, a <b>RandomAccess</b> list it reads through to, so creating one takes O(1) and reading an element does not copy anything.
+ * Views are only created over lists that can never change, since a change such as removing elements would leave the view inconsistent with its own bounds.
+ */
+abstract class ListView<T> extends AbstractList<T> implements RandomAccess {
+    /**
+     * The classes of the unmodifiable lists of the JDK, whose elements can never change.
+     * Wrappers such as <b>Collections.unmodifiableList</b> are not among them, since the list they wrap may still change.
+     */
+    private static final Set<Class<?>> IMMUTABLE = Set.copyOf(Arrays.asList(
+            List.of().getClass(),
+            List.of(0).getClass(),
+            List.of(0, 1, 2).getClass(),
+            List.of(0, 1, 2).subList(0, 1).getClass(),
+            Collections.emptyList().getClass(),
+            Collections.singletonList(null).getClass(),
+            Collections.nCopies(1, null).getClass()));
+
+    final List<T> list;
+
+    ListView(List<T> list) {
+        this.list = list;
+    }
+
+    /**
+     * Returns <b>true</b> if the elements of <b>list</b> can never change, so that a view over it stays valid.
+     */
+    static boolean immutable(List<?> list) {
+        return list instanceof PersistentVector || list instanceof ListView || IMMUTABLE.contains(list.getClass());
+    }
+
+    /**
+     * The elements of <b>list</b> in reverse order.
+     */
+    static final class Reversed<T> extends ListView<T> {
+        Reversed(List<T> list) {
+            super(list);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(list.size() - 1 - index);
+        }
+    }
+
+    /**
+     * The elements of <b>list</b> with <b>deleteCount</b> of them from <b>start</b> replaced by <b>items</b>.
+     * <b>items</b> is copied, since unlike <b>list</b>, later changes to the array passed to <b>toSpliced</b> must not show through.
+     */
+    static final class Spliced<T> extends ListView<T> {
+        private final int start;
+        private final int deleteCount;
+        private final T[] items;
+
+        Spliced(List<T> list, int start, int deleteCount, T[] items) {
+            super(list);
+            this.start = start;
+            this.deleteCount = deleteCount;
+            this.items = items.clone();
+        }
+
+        @Override
+        public int size() {
+            return list.size() - deleteCount + items.length;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < start)
+                return list.get(index);
+            if (index < start + items.length)
+                return items[index - start];
+            return list.get(index - items.length + deleteCount);
+        }
+    }
+
+    /**
+     * The elements of <b>list</b> with the one at <b>index</b> replaced by <b>element</b>.
+     */
+    static final class With<T> extends ListView<T> {
+        private final int index;
+        private final T element;
+
+        With(List<T> list, int index, T element) {
+            super(list);
+            this.index = index;
+            this.element = element;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public T get(int index) {
+            return index == this.index ? element : list.get(index);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The loops of the traversal engine of <b>ListUtil</b>, which call the callbacks.
+ * <b>TraversalLoops</b> is the implementation shared by all callbacks; <b>Specialization</b> may give a callback class its own copy of it.
+ * Each loop traverses <b>source</b> and passes <b>list</b>, the list the method was called upon, to the callback.
+ */
+interface Loops {
+    /**
+     * Returned by <b>find</b>, <b>findLast</b>, <b>reduce</b> and <b>reduceRight</b> when there is no element to return.
+     */
+    Object NONE = new Object();
+
+    /**
+     * Returns the index of the first element for which <b>predicate</b> returns <b>expected</b>, or <b>-1</b> if there is none.
+     */
+    <T> int scan(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate, boolean expected);
+
+    /**
+     * Returns the index of the last element that passes <b>predicate</b>, or <b>-1</b> if there is none.
+     */
+    <T> int scanRight(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate);
+
+    /**
+     * Returns the first element that passes <b>predicate</b>, or <b>NONE</b> if there is none.
+     */
+    <T> Object find(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate);
+
+    /**
+     * Returns the last element that passes <b>predicate</b>, or <b>NONE</b> if there is none.
+     */
+    <T> Object findLast(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate);
+
+    <T> void walk(List<T> source, List<T> list, ListUtil.Consumer<? super T> consumer);
+
+    /**
+     * Returns a new list of the elements that pass <b>predicate</b>. The elements that pass are marked in a bitmap and read again into a list allocated for exactly their number.
+     */
+    <T> ArrayList<T> filter(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate);
+
+    /**
+     * Adds the results of <b>mapper</b> to <b>result</b>, in order, and <b>null</b> for the elements that callbacks removed before they were reached.
+     */
+    <T, R> void map(List<T> source, List<T> list, ListUtil.Mapper<? super T, ? extends R> mapper, List<? super R> result);
+
+    <T, R> R fold(List<T> source, List<T> list, ListUtil.Reducer<? super T, R> reducer, R accumulator);
+
+    /**
+     * Folds from the last element to the first.
+     */
+    <T, R> R foldRight(List<T> source, List<T> list, ListUtil.Reducer<? super T, R> reducer, R accumulator);
+
+    /**
+     * Folds the elements after the first into the first, or returns <b>NONE</b> if there are none.
+     */
+    <T> Object reduce(List<T> source, List<T> list, ListUtil.Reducer<? super T, T> reducer);
+
+    /**
+     * Folds the elements before the last into the last, from right to left, or returns <b>NONE</b> if there are none.
+     */
+    <T> Object reduceRight(List<T> source, List<T> list, ListUtil.Reducer<? super T, T> reducer);
+
+    /**
+     * Returns whether <b>source</b> is walked by index. A <b>CopyOnWriteArrayList</b> is walked with its iterator instead, which reads an immutable snapshot of its array without copying it.
+     */
+    static boolean indexed(List<?> source) {
+        return source instanceof RandomAccess && !(source instanceof CopyOnWriteArrayList);
+    }
+
+    /**
+     * Returns a list iterator of <b>source</b> positioned at <b>index</b>, or after its last element if it has shrunk below <b>index</b>, for a loop to resume from after a callback modified <b>source</b>.
+     */
+    static <T> ListIterator<T> resume(List<T> source, int index) {
+        return source.listIterator(Math.min(index, source.size()));
+    }
+
+    /**
+     * Returns a list iterator of <b>source</b> positioned after its last element.
+     * A <b>CopyOnWriteArrayList</b> may be written between <b>size()</b> and the snapshot taken by its iterator, so the iterator is moved on to the end of its snapshot, or taken again if the list shrank.
+     */
+    static <T> ListIterator<T> end(List<T> source) {
+        while (true) {
+            ListIterator<T> iterator;
+            try {
+                iterator = source.listIterator(source.size());
+            } catch (IndexOutOfBoundsException e) {
+                if (source instanceof CopyOnWriteArrayList)
+                    continue;
+                throw e;
+            }
+            while (iterator.hasNext())
+                iterator.next();
+            return iterator;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.quicksilver0218.listutil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A list of fixed-width records stored in a memory-mapped file, for data sets larger than the heap.
+ * The file holds the size of the list in an 8-byte header followed by the records, encoded by a <b>RecordCodec</b>. The file is grown, and the new part mapped, as elements are added.
+ * <p>
+ * The list supports random access, so every <b>ListUtil</b> method works on it. Appending and removing at the end are cheap; insertion and removal elsewhere move all the following records.
+ * Changes reach the file at the discretion of the operating system until <b>force()</b> or <b>close()</b> is called.
+ */
+public class MappedList<T> extends RecordList<T> implements Closeable {
+    private static final int HEADER_SIZE = Long.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+
+    private MappedList(FileChannel channel, RecordCodec<T> codec) throws IOException {
+        super(codec);
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        long stored = header.getLong(0);
+        long available = (channel.size() - HEADER_SIZE) / width;
+        if (stored < 0 || stored > available || stored > Integer.MAX_VALUE)
+            throw new IOException("Invalid list size in header: " + stored);
+        size = (int) stored;
+        try {
+            allocate(Math.max(available, MIN_CAPACITY));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Opens a mapped list, creating the file if it does not exist.
+     * @param path The file backing the list.
+     * @param codec The codec of the records. It must be the same every time the file is opened.
+     * @return A list of the records in the file.
+     * @throws IOException If the file cannot be opened or mapped, or its header is invalid.
+     */
+    public static <T> MappedList<T> open(Path path, RecordCodec<T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            return new MappedList<>(channel, codec);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all changes to the storage device.
+     */
+    public void force() {
+        for (ByteBuffer chunk : chunks)
+            ((MappedByteBuffer) chunk).force();
+        header.force();
+    }
+
+    /**
+     * Writes all changes to the storage device and closes the file. The list must not be used afterwards.
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * Maps the part of the file holding the chunk, which also grows the file if needed.
+     */
+    @Override
+    ByteBuffer chunk(int index, long records, ByteBuffer previous) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + (long) index * chunkRecords * width, records * width);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void resized() {
+        header.putLong(0, size);
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An instrumentation listener aggregating the events per method in memory. It can be shared by any number of threads.
+ */
+public class MetricsRecorder implements Instrumentation.Listener {
+    private final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public void completed(Instrumentation.Invocation invocation) {
+        MethodMetrics metrics = metrics(invocation.method());
+        metrics.invocations.increment();
+        metrics.visited.add(invocation.visited());
+        metrics.time.record(invocation.nanos());
+        if (invocation.stopIndex() >= 0)
+            metrics.stopIndex.record(invocation.stopIndex());
+        if (invocation.resultSize() >= 0)
+            metrics.resultSize.record(invocation.resultSize());
+    }
+
+    @Override
+    public void callback(String method, long nanos) {
+        metrics(method).callbackTime.record(nanos);
+    }
+
+    @Override
+    public void slowAccess(String method, List<?> list) {
+        metrics(method).slowAccesses.increment();
+    }
+
+    /**
+     * @param method Name of a method.
+     * @return The metrics of the method, which are empty if it has not been called.
+     */
+    public MethodMetrics get(String method) {
+        return metrics(method);
+    }
+
+    /**
+     * @return The metrics of every method called so far, by method name.
+     */
+    public Map<String, MethodMetrics> getAll() {
+        return new TreeMap<>(methods);
+    }
+
+    /**
+     * Discards all the metrics.
+     */
+    public void reset() {
+        methods.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        getAll().forEach((method, metrics) -> builder.append(method).append(": ").append(metrics).append('\n'));
+        return builder.toString();
+    }
+
+    private MethodMetrics metrics(String method) {
+        return methods.computeIfAbsent(method, key -> new MethodMetrics());
+    }
+
+    /**
+     * The metrics of one method.
+     */
+    public static final class MethodMetrics {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder visited = new LongAdder();
+        private final LongAdder slowAccesses = new LongAdder();
+        private final Histogram time = new Histogram();
+        private final Histogram callbackTime = new Histogram();
+        private final Histogram stopIndex = new Histogram();
+        private final Histogram resultSize = new Histogram();
+
+        MethodMetrics() {
+        }
+
+        /**
+         * @return Number of completed calls.
+         */
+        public long invocations() {
+            return invocations.sum();
+        }
+
+        /**
+         * @return Total number of elements visited.
+         */
+        public long visited() {
+            return visited.sum();
+        }
+
+        /**
+         * @return Number of calls accessing a list without random access by index.
+         */
+        public long slowAccesses() {
+            return slowAccesses.sum();
+        }
+
+        /**
+         * @return Time of the calls, in nanoseconds.
+         */
+        public Histogram time() {
+            return time;
+        }
+
+        /**
+         * @return Time of the callbacks, in nanoseconds.
+         */
+        public Histogram callbackTime() {
+            return callbackTime;
+        }
+
+        /**
+         * @return Indexes at which the calls stopped early.
+         */
+        public Histogram stopIndex() {
+            return stopIndex;
+        }
+
+        /**
+         * @return Sizes of the returned lists.
+         */
+        public Histogram resultSize() {
+            return resultSize;
+        }
+
+        @Override
+        public String toString() {
+            return "invocations=" + invocations() + ", visited=" + visited() + ", slowAccesses=" + slowAccesses() + ", time=" + time + ", callbackTime=" + callbackTime + ", stopIndex=" + stopIndex + ", resultSize=" + resultSize;
+        }
+    }
+
+    /**
+     * A histogram of non-negative values in power-of-two buckets. Bucket <b>0</b> counts the value <b>0</b>, and bucket <b>i</b> the values from <b>2<sup>i-1</sup></b> to <b>2<sup>i</sup> - 1</b>.
+     */
+    public static final class Histogram {
+        private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++)
+                buckets[i] = new LongAdder();
+        }
+
+        void record(long value) {
+            buckets[Long.SIZE - Long.numberOfLeadingZeros(Math.max(value, 0))].increment();
+            count.increment();
+            sum.add(value);
+        }
+
+        /**
+         * @return Number of values recorded.
+         */
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * @return Sum of the values recorded.
+         */
+        public long sum() {
+            return sum.sum();
+        }
+
+        /**
+         * @param bucket Index of a bucket, from <b>0</b> to <b>63</b>.
+         * @return Number of values recorded in the bucket.
+         */
+        public long bucket(int bucket) {
+            return buckets[bucket].sum();
+        }
+
+        /**
+         * @param quantile A number from <b>0</b> to <b>1</b>.
+         * @return Upper bound of the bucket holding the quantile, or <b>0</b> if nothing has been recorded.
+         */
+        public long quantile(double quantile) {
+            long total = count();
+            if (total == 0)
+                return 0;
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank)
+                    return i == 0 ? 0 : (1L << i) - 1;
+            }
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            long total = count();
+            if (total == 0)
+                return "[]";
+            return "[count=" + total + ", mean=" + sum() / total + ", p50<=" + quantile(0.5) + ", p99<=" + quantile(0.99) + "]";
+        }
+    }
+}
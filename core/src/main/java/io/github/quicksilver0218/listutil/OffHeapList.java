@@ -0,0 +1,106 @@
+package io.github.quicksilver0218.listutil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A list of fixed-width records stored in direct memory, which keeps large data sets out of the garbage-collected heap.
+ * Elements are encoded by a <b>RecordCodec</b>, so only the elements read back are allocated on the heap.
+ * <p>
+ * The list supports random access, so every <b>ListUtil</b> method works on it, and <b>fill</b>, <b>copyWithin</b>, <b>reverse</b> and <b>concat</b> copy raw bytes instead of encoding every element.
+ * The memory is released by <b>close()</b>; if a list is never closed, it is released when the list is garbage collected. Direct memory is limited by <b>-XX:MaxDirectMemorySize</b>.
+ */
+public class OffHeapList<T> extends RecordList<T> implements AutoCloseable {
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private boolean closed;
+
+    /**
+     * Creates an empty list.
+     * @param codec The codec of the records.
+     */
+    public OffHeapList(RecordCodec<T> codec) {
+        this(codec, MIN_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list.
+     * @param codec The codec of the records.
+     * @param initialCapacity The number of records to allocate memory for.
+     */
+    public OffHeapList(RecordCodec<T> codec, int initialCapacity) {
+        super(codec);
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        allocate(Math.max(initialCapacity, 1));
+    }
+
+    /**
+     * Creates a list of the elements of another list.
+     * @param codec The codec of the records.
+     * @param list The elements to store.
+     */
+    public OffHeapList(RecordCodec<T> codec, List<? extends T> list) {
+        this(codec, list.size());
+        if (list instanceof RecordList && ((RecordList<?>) list).codec == codec)
+            append((RecordList<? extends T>) list);
+        else
+            addAll(list);
+    }
+
+    /**
+     * Releases the memory of the list. The list is empty afterwards and cannot grow again.
+     * The list must not be closed while another thread is using it.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        ByteBuffer[] released = chunks;
+        chunks = new ByteBuffer[0];
+        capacity = 0;
+        clear();
+        for (ByteBuffer chunk : released)
+            free(chunk);
+    }
+
+    @Override
+    ByteBuffer chunk(int index, long records, ByteBuffer previous) {
+        if (closed)
+            throw new IllegalStateException("List is closed");
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) (records * width));
+        if (previous != null) {
+            buffer.put(previous.duplicate().clear());
+            free(previous);
+        }
+        return buffer;
+    }
+
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null)
+            return;
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            // The buffer is then released by the garbage collector.
+        }
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
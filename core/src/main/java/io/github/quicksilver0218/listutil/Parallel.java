@@ -0,0 +1,308 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork/join tasks behind the parallel methods of <b>ListUtil</b>.
+ * Each task covers the index range [<b>from</b>, <b>to</b>) of <b>source</b> and splits it in halves until it is no longer than <b>threshold</b>.
+ * <b>source</b> is a <b>RandomAccess</b> list holding the elements; <b>list</b> is the list passed to the callbacks.
+ */
+enum Parallel {;
+
+    private abstract static class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int from;
+        final int to;
+        final int threshold;
+
+        RangeAction(int from, int to, int threshold) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                leaf();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(split(from, middle), split(middle, to));
+        }
+
+        abstract void leaf();
+
+        abstract RangeAction split(int from, int to);
+    }
+
+    static final class MapAction<T, R> extends RangeAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> source;
+        private final List<T> list;
+        private final ListUtil.Mapper<? super T, ? extends R> mapper;
+        private final Object[] result;
+
+        MapAction(List<T> source, List<T> list, ListUtil.Mapper<? super T, ? extends R> mapper, Object[] result, int from, int to, int threshold) {
+            super(from, to, threshold);
+            this.source = source;
+            this.list = list;
+            this.mapper = mapper;
+            this.result = result;
+        }
+
+        @Override
+        void leaf() {
+            for (int i = from; i < to; i++)
+                result[i] = mapper.apply(source.get(i), i, list);
+        }
+
+        @Override
+        RangeAction split(int from, int to) {
+            return new MapAction<>(source, list, mapper, result, from, to, threshold);
+        }
+    }
+
+    /**
+     * Marks in <b>keep</b> the elements for which the predicate holds.
+     */
+    static final class FilterAction<T> extends RangeAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> source;
+        private final List<T> list;
+        private final ListUtil.Predicate<? super T> predicate;
+        private final boolean[] keep;
+
+        FilterAction(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate, boolean[] keep, int from, int to, int threshold) {
+            super(from, to, threshold);
+            this.source = source;
+            this.list = list;
+            this.predicate = predicate;
+            this.keep = keep;
+        }
+
+        @Override
+        void leaf() {
+            for (int i = from; i < to; i++)
+                keep[i] = predicate.test(source.get(i), i, list);
+        }
+
+        @Override
+        RangeAction split(int from, int to) {
+            return new FilterAction<>(source, list, predicate, keep, from, to, threshold);
+        }
+    }
+
+    /**
+     * Sets <b>found</b> once the predicate returns <b>expected</b> for some element. All tasks stop as soon as <b>found</b> is set.
+     */
+    static final class SearchAction<T> extends RangeAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> source;
+        private final List<T> list;
+        private final ListUtil.Predicate<? super T> predicate;
+        private final boolean expected;
+        private final AtomicBoolean found;
+
+        SearchAction(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate, boolean expected, AtomicBoolean found, int from, int to, int threshold) {
+            super(from, to, threshold);
+            this.source = source;
+            this.list = list;
+            this.predicate = predicate;
+            this.expected = expected;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (!found.get())
+                super.compute();
+        }
+
+        @Override
+        void leaf() {
+            for (int i = from; i < to && !found.get(); i++)
+                if (predicate.test(source.get(i), i, list) == expected) {
+                    found.set(true);
+                    return;
+                }
+        }
+
+        @Override
+        RangeAction split(int from, int to) {
+            return new SearchAction<>(source, list, predicate, expected, found, from, to, threshold);
+        }
+    }
+
+    static final class ReduceTask<T, R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> source;
+        private final List<T> list;
+        private final ListUtil.Reducer<? super T, R> reducer;
+        private final R identity;
+        private final BinaryOperator<R> combiner;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ReduceTask(List<T> source, List<T> list, ListUtil.Reducer<? super T, R> reducer, R identity, BinaryOperator<R> combiner, int from, int to, int threshold) {
+            this.source = source;
+            this.list = list;
+            this.reducer = reducer;
+            this.identity = identity;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= threshold) {
+                R accumulator = identity;
+                for (int i = from; i < to; i++)
+                    accumulator = reducer.apply(accumulator, source.get(i), i, list);
+                return accumulator;
+            }
+            int middle = (from + to) >>> 1;
+            ReduceTask<T, R> right = new ReduceTask<>(source, list, reducer, identity, combiner, middle, to, threshold);
+            right.fork();
+            R left = new ReduceTask<>(source, list, reducer, identity, combiner, from, middle, threshold).compute();
+            return combiner.apply(left, right.join());
+        }
+    }
+
+    /**
+     * Selects the least <b>k</b> elements of each half and merges the two selections.
+     */
+    static final class SelectTask<T> extends RecursiveTask<Selection<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> source;
+        private final Comparator<? super T> comparator;
+        private final int k;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SelectTask(List<T> source, Comparator<? super T> comparator, int k, int from, int to, int threshold) {
+            this.source = source;
+            this.comparator = comparator;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Selection<T> compute() {
+            Selection<T> selection = new Selection<>(comparator, Math.min(k, to - from));
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++)
+                    selection.offer(source.get(i), i);
+                return selection;
+            }
+            int middle = (from + to) >>> 1;
+            SelectTask<T> right = new SelectTask<>(source, comparator, k, middle, to, threshold);
+            right.fork();
+            selection.offerAll(new SelectTask<>(source, comparator, k, from, middle, threshold).compute());
+            selection.offerAll(right.join());
+            return selection;
+        }
+    }
+
+    /**
+     * Groups each half into its own map and merges the maps, keeping the keys in the order they are first seen and the elements in list order.
+     */
+    static final class GroupTask<T, K> extends RecursiveTask<Map<K, List<T>>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> source;
+        private final List<T> list;
+        private final ListUtil.Mapper<? super T, ? extends K> keyMapper;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        GroupTask(List<T> source, List<T> list, ListUtil.Mapper<? super T, ? extends K> keyMapper, int from, int to, int threshold) {
+            this.source = source;
+            this.list = list;
+            this.keyMapper = keyMapper;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Map<K, List<T>> compute() {
+            if (to - from <= threshold) {
+                Map<K, List<T>> groups = new LinkedHashMap<>();
+                for (int i = from; i < to; i++) {
+                    T element = source.get(i);
+                    groups.computeIfAbsent(keyMapper.apply(element, i, list), key -> new ArrayList<>()).add(element);
+                }
+                return groups;
+            }
+            int middle = (from + to) >>> 1;
+            GroupTask<T, K> right = new GroupTask<T, K>(source, list, keyMapper, middle, to, threshold);
+            right.fork();
+            Map<K, List<T>> groups = new GroupTask<T, K>(source, list, keyMapper, from, middle, threshold).compute();
+            for (Map.Entry<K, List<T>> entry : right.join().entrySet())
+                groups.merge(entry.getKey(), entry.getValue(), (left, elements) -> {
+                    left.addAll(elements);
+                    return left;
+                });
+            return groups;
+        }
+    }
+
+    /**
+     * Maps the elements of a <b>SUBSIZED</b> spliterator into <b>result</b> from <b>index</b>, splitting the spliterator instead of an index range while it is larger than <b>threshold</b>.
+     * The elements past the end of <b>result</b> are not mapped. A <b>null</b> mapper stores the elements themselves.
+     */
+    static final class SpliteratorAction<T, R> extends RecursiveAction implements java.util.function.Consumer<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<? extends T> spliterator;
+        private final ListUtil.Mapper<? super T, ? extends R> mapper;
+        private final Object[] result;
+        private final int threshold;
+        private int index;
+
+        SpliteratorAction(Spliterator<? extends T> spliterator, ListUtil.Mapper<? super T, ? extends R> mapper, Object[] result, int index, int threshold) {
+            this.spliterator = spliterator;
+            this.mapper = mapper;
+            this.result = result;
+            this.index = index;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (index >= result.length)
+                return;
+            Spliterator<? extends T> prefix;
+            if (spliterator.estimateSize() > threshold && (prefix = spliterator.trySplit()) != null) {
+                int middle = (int) Math.min(index + prefix.estimateSize(), result.length);
+                invokeAll(new SpliteratorAction<T, R>(prefix, mapper, result, index, threshold), new SpliteratorAction<T, R>(spliterator, mapper, result, middle, threshold));
+                return;
+            }
+            while (index < result.length && spliterator.tryAdvance(this));
+        }
+
+        @Override
+        public void accept(T element) {
+            result[index] = mapper == null ? element : mapper.apply(element, index, null);
+            index++;
+        }
+    }
+}
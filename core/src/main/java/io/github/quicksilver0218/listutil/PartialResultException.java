@@ -0,0 +1,55 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when an asynchronous method of <b>ListUtil</b> did not complete for every element, because callbacks failed or the timeout elapsed.
+ * The exception keeps the outcome of every element: the results of the callbacks that completed, by index, and the failures of those that threw.
+ * Its cause is the timeout, or the failure with the lowest index.
+ */
+public class PartialResultException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Object> results;
+    private final transient Map<Integer, Throwable> failures;
+    private final BitSet completed;
+
+    PartialResultException(String message, Throwable cause, List<Object> results, Map<Integer, Throwable> failures, BitSet completed) {
+        super(message, cause);
+        this.results = Collections.unmodifiableList(results);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.completed = completed;
+    }
+
+    /**
+     * @return The result of the callback of every element by index: the mapped value for <b>mapAsync</b>, a <b>Boolean</b> for <b>filterAsync</b> and <b>null</b> for <b>forEachAsync</b>. Elements without a result are <b>null</b>.
+     */
+    public List<Object> getResults() {
+        return results;
+    }
+
+    /**
+     * @return The exceptions thrown by the callbacks, by index in ascending order.
+     */
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @param index Index of an element.
+     * @return <b>true</b> if the callback of the element returned normally.
+     */
+    public boolean isCompleted(int index) {
+        return completed.get(index);
+    }
+
+    /**
+     * @return Number of elements whose callback returned normally.
+     */
+    public int completedCount() {
+        return completed.cardinality();
+    }
+}
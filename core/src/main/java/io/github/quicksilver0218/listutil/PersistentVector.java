@@ -0,0 +1,388 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+
+/**
+ * An immutable list whose copies share structure, created by <b>PersistentVector.of(collection)</b>.
+ * <b>concat</b>, <b>slice</b>, <b>insert</b>, <b>delete</b> and <b>with</b> return a new vector in O(log n) instead of copying the elements, and leave this one unchanged.
+ * <b>get</b> takes O(log n); iteration takes O(1) per element.
+ * <p>
+ * The elements are stored in chunks of up to 32, which are the leaves of a height-balanced binary tree ordered by index. Two trees are concatenated by joining them along the spine of the taller one, and a tree is sliced by joining the subtrees on either side of the cut.
+ * <b>ListUtil.concat</b>, <b>slice</b> and <b>toSpliced</b> return vectors when given one.
+ */
+public final class PersistentVector<T> extends AbstractList<T> implements RandomAccess {
+    private static final int CHUNK = 32;
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node root;
+
+    private PersistentVector(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @return The empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * @param collection The elements of the vector.
+     * @return A vector of the elements of <b>collection</b>, or <b>collection</b> itself if it is a vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> of(Collection<? extends T> collection) {
+        if (collection instanceof PersistentVector)
+            return (PersistentVector<T>) collection;
+        Node root = build(collection.toArray());
+        return root == null ? empty() : new PersistentVector<>(root);
+    }
+
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node node = root;
+        while (node.elements == null)
+            if (index < node.left.size)
+                node = node.left;
+            else {
+                index -= node.left.size;
+                node = node.right;
+            }
+        return (T) node.elements[index];
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        Objects.checkIndex(index, size() + 1);
+        return new ListIterator<T>() {
+            private int cursor = index;
+            private Object[] chunk = new Object[0];
+            private int chunkStart;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                Object[] elements = chunk(cursor);
+                return (T) elements[cursor++ - chunkStart];
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return cursor > 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T previous() {
+                if (!hasPrevious())
+                    throw new NoSuchElementException();
+                Object[] elements = chunk(--cursor);
+                return (T) elements[cursor - chunkStart];
+            }
+
+            @Override
+            public int nextIndex() {
+                return cursor;
+            }
+
+            @Override
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void set(T t) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void add(T t) {
+                throw new UnsupportedOperationException();
+            }
+
+            /**
+             * Returns the chunk containing index <b>i</b>, descending from the root only when it is not the current one.
+             */
+            private Object[] chunk(int i) {
+                if (i < chunkStart || i >= chunkStart + chunk.length) {
+                    Node node = root;
+                    chunkStart = 0;
+                    while (node.elements == null)
+                        if (i - chunkStart < node.left.size)
+                            node = node.left;
+                        else {
+                            chunkStart += node.left.size;
+                            node = node.right;
+                        }
+                    chunk = node.elements;
+                }
+                return chunk;
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        copy(root, array, 0);
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A> A[] toArray(A[] a) {
+        int size = size();
+        if (a.length < size)
+            a = (A[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+        copy(root, a, 0);
+        if (a.length > size)
+            a[size] = null;
+        return a;
+    }
+
+    /**
+     * @param collection The elements to append.
+     * @return A vector of the elements of this vector followed by those of <b>collection</b>. If <b>collection</b> is a vector, its structure is shared rather than copied.
+     */
+    public PersistentVector<T> concat(Collection<? extends T> collection) {
+        return create(join(root, nodeOf(collection)));
+    }
+
+    /**
+     * @param from Start index.
+     * @param to End index, not included.
+     * @return A vector of the elements from <b>from</b> to <b>to</b>.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public PersistentVector<T> slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        return create(take(drop(root, from), to - from));
+    }
+
+    /**
+     * @param index Index at which to insert the elements.
+     * @param collection The elements to insert.
+     * @return A vector of the elements of this vector with those of <b>collection</b> inserted at <b>index</b>.
+     * @throws IndexOutOfBoundsException If <b>index</b> is out of bounds.
+     */
+    public PersistentVector<T> insert(int index, Collection<? extends T> collection) {
+        Objects.checkIndex(index, size() + 1);
+        return create(join(join(take(root, index), nodeOf(collection)), drop(root, index)));
+    }
+
+    /**
+     * @param from Start index.
+     * @param to End index, not included.
+     * @return A vector of the elements of this vector without those from <b>from</b> to <b>to</b>.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public PersistentVector<T> delete(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        return create(join(take(root, from), drop(root, to)));
+    }
+
+    /**
+     * @param index Index of the element to replace.
+     * @param element The new element.
+     * @return A vector of the elements of this vector with the one at <b>index</b> replaced by <b>element</b>.
+     * @throws IndexOutOfBoundsException If <b>index</b> is out of bounds.
+     */
+    public PersistentVector<T> with(int index, T element) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(replace(root, index, element));
+    }
+
+    private PersistentVector<T> create(Node node) {
+        return node == root ? this : node == null ? empty() : new PersistentVector<>(node);
+    }
+
+    private static Node nodeOf(Collection<?> collection) {
+        return collection instanceof PersistentVector ? ((PersistentVector<?>) collection).root : build(collection.toArray());
+    }
+
+    /**
+     * Builds a perfectly balanced tree of the elements.
+     */
+    private static Node build(Object[] elements) {
+        if (elements.length == 0)
+            return null;
+        Node[] chunks = new Node[(elements.length + CHUNK - 1) / CHUNK];
+        for (int i = 0; i < chunks.length; i++)
+            chunks[i] = new Node(Arrays.copyOfRange(elements, i * CHUNK, Math.min((i + 1) * CHUNK, elements.length)));
+        return build(chunks, 0, chunks.length);
+    }
+
+    private static Node build(Node[] chunks, int from, int to) {
+        if (to - from == 1)
+            return chunks[from];
+        int middle = (from + to) >>> 1;
+        return new Node(build(chunks, from, middle), build(chunks, middle, to));
+    }
+
+    private static int copy(Node node, Object[] array, int offset) {
+        if (node == null)
+            return offset;
+        if (node.elements != null) {
+            System.arraycopy(node.elements, 0, array, offset, node.elements.length);
+            return offset + node.elements.length;
+        }
+        return copy(node.right, array, copy(node.left, array, offset));
+    }
+
+    private static Node replace(Node node, int index, Object element) {
+        if (node.elements != null) {
+            Object[] elements = node.elements.clone();
+            elements[index] = element;
+            return new Node(elements);
+        }
+        if (index < node.left.size)
+            return new Node(replace(node.left, index, element), node.right);
+        return new Node(node.left, replace(node.right, index - node.left.size, element));
+    }
+
+    /**
+     * Returns the first <b>count</b> elements of <b>node</b>.
+     */
+    private static Node take(Node node, int count) {
+        if (count == 0)
+            return null;
+        if (count == node.size)
+            return node;
+        if (node.elements != null)
+            return new Node(Arrays.copyOf(node.elements, count));
+        if (count <= node.left.size)
+            return take(node.left, count);
+        return join(node.left, take(node.right, count - node.left.size));
+    }
+
+    /**
+     * Returns the elements of <b>node</b> after the first <b>count</b>.
+     */
+    private static Node drop(Node node, int count) {
+        if (count == 0 || node == null)
+            return node;
+        if (count == node.size)
+            return null;
+        if (node.elements != null)
+            return new Node(Arrays.copyOfRange(node.elements, count, node.elements.length));
+        if (count >= node.left.size)
+            return drop(node.right, count - node.left.size);
+        return join(drop(node.left, count), node.right);
+    }
+
+    /*
+     * Joining follows the AVL join algorithm: the shorter tree is attached to the spine of the taller one at a node of about its height, and the path back up is rebalanced by rotations.
+     * Adjacent chunks that fit in one are merged when they meet, so that repeated small concatenations do not leave a trail of tiny leaves.
+     */
+
+    private static Node join(Node left, Node right) {
+        if (left == null)
+            return right;
+        if (right == null)
+            return left;
+        if (left.height > right.height + 1)
+            return joinRight(left, right);
+        if (right.height > left.height + 1)
+            return joinLeft(left, right);
+        return pair(left, right);
+    }
+
+    private static Node joinRight(Node left, Node right) {
+        Node child = left.right;
+        if (child.height <= right.height + 1) {
+            Node node = pair(child, right);
+            if (node.height <= left.left.height + 1)
+                return new Node(left.left, node);
+            return rotateLeft(new Node(left.left, rotateRight(node)));
+        }
+        Node node = joinRight(child, right);
+        Node parent = new Node(left.left, node);
+        return node.height <= left.left.height + 1 ? parent : rotateLeft(parent);
+    }
+
+    private static Node joinLeft(Node left, Node right) {
+        Node child = right.left;
+        if (child.height <= left.height + 1) {
+            Node node = pair(left, child);
+            if (node.height <= right.right.height + 1)
+                return new Node(node, right.right);
+            return rotateRight(new Node(rotateLeft(node), right.right));
+        }
+        Node node = joinLeft(left, child);
+        Node parent = new Node(node, right.right);
+        return node.height <= right.right.height + 1 ? parent : rotateRight(parent);
+    }
+
+    /**
+     * Returns a node of <b>left</b> followed by <b>right</b>, merging them if they are chunks that fit in one.
+     */
+    private static Node pair(Node left, Node right) {
+        if (left.elements != null && right.elements != null && left.size + right.size <= CHUNK) {
+            Object[] elements = Arrays.copyOf(left.elements, left.size + right.size);
+            System.arraycopy(right.elements, 0, elements, left.size, right.size);
+            return new Node(elements);
+        }
+        return new Node(left, right);
+    }
+
+    private static Node rotateLeft(Node node) {
+        return new Node(new Node(node.left, node.right.left), node.right.right);
+    }
+
+    private static Node rotateRight(Node node) {
+        return new Node(node.left.left, new Node(node.left.right, node.right));
+    }
+
+    /**
+     * A chunk of elements if <b>elements</b> is not <b>null</b>, otherwise an inner node with two children.
+     */
+    private static final class Node {
+        final Node left;
+        final Node right;
+        final Object[] elements;
+        final int size;
+        final int height;
+
+        Node(Object[] elements) {
+            left = null;
+            right = null;
+            this.elements = elements;
+            size = elements.length;
+            height = 0;
+        }
+
+        Node(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+            elements = null;
+            size = left.size + right.size;
+            height = Math.max(left.height, right.height) + 1;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Measures one call to an instrumented <b>ListUtil</b> method. A probe is only created while a listener is set, and is used by the calling thread only.
+ */
+final class Probe {
+    private final Instrumentation.Listener listener;
+    private final String method;
+    private final Class<?> listType;
+    private final int size;
+    private final long start = System.nanoTime();
+    private int visited;
+    private int lastIndex = -1;
+    private long callbackNanos;
+
+    private Probe(Instrumentation.Listener listener, String method, List<?> list) {
+        this.listener = listener;
+        this.method = method;
+        this.listType = list.getClass();
+        this.size = list.size();
+    }
+
+    /**
+     * @return A new probe, or <b>null</b> if the instrumentation is disabled.
+     */
+    static Probe start(String method, List<?> list) {
+        Instrumentation.Listener listener = Instrumentation.listener;
+        return listener == null ? null : new Probe(listener, method, list);
+    }
+
+    /**
+     * Reports that <b>method</b> accesses <b>list</b> by index, if it does not support random access.
+     */
+    static void checkAccess(String method, List<?> list) {
+        Instrumentation.Listener listener = Instrumentation.listener;
+        if (listener != null && !(list instanceof RandomAccess))
+            listener.slowAccess(method, list);
+    }
+
+    <T> ListUtil.Predicate<T> wrapPredicate(ListUtil.Predicate<? super T> predicate) {
+        return (element, index, list) -> {
+            lastIndex = index;
+            long begin = System.nanoTime();
+            boolean result = predicate.test(element, index, list);
+            timed(begin);
+            return result;
+        };
+    }
+
+    <T> ListUtil.Consumer<T> wrapConsumer(ListUtil.Consumer<? super T> consumer) {
+        return (element, index, list) -> {
+            long begin = System.nanoTime();
+            consumer.accept(element, index, list);
+            timed(begin);
+        };
+    }
+
+    <T, R> ListUtil.Mapper<T, R> wrapMapper(ListUtil.Mapper<? super T, ? extends R> mapper) {
+        return (element, index, list) -> {
+            long begin = System.nanoTime();
+            R result = mapper.apply(element, index, list);
+            timed(begin);
+            return result;
+        };
+    }
+
+    <T> ListUtil.ToIntMapper<T> wrapToIntMapper(ListUtil.ToIntMapper<? super T> mapper) {
+        return (element, index, list) -> {
+            long begin = System.nanoTime();
+            int result = mapper.apply(element, index, list);
+            timed(begin);
+            return result;
+        };
+    }
+
+    <T, R> ListUtil.Reducer<T, R> wrapReducer(ListUtil.Reducer<? super T, R> reducer) {
+        return (accumulator, element, index, list) -> {
+            long begin = System.nanoTime();
+            R result = reducer.apply(accumulator, element, index, list);
+            timed(begin);
+            return result;
+        };
+    }
+
+    /**
+     * @return The index passed to the last predicate wrapped by this probe, or <b>-1</b> if it has not been called.
+     */
+    int lastIndex() {
+        return lastIndex;
+    }
+
+    /**
+     * Reports a completed search of <b>list</b> from <b>fromIndex</b> that returned <b>index</b>, counting the elements a linear search compares.
+     */
+    void searched(List<?> list, int fromIndex, int index, boolean forward) {
+        if (!(list instanceof IndexedList))
+            visited += index >= 0 ? Math.abs(index - fromIndex) + 1 : forward ? Math.max(list.size() - fromIndex, 0) : fromIndex + 1;
+        finish(index, -1);
+    }
+
+    /**
+     * Reports the completed call.
+     * @param stopIndex Index at which the method stopped early, or <b>-1</b>.
+     * @param resultSize Size of the returned list, or <b>-1</b>.
+     */
+    void finish(int stopIndex, int resultSize) {
+        listener.completed(new Instrumentation.Invocation(method, listType, size, visited, stopIndex, resultSize, System.nanoTime() - start, callbackNanos));
+    }
+
+    private void timed(long begin) {
+        long nanos = System.nanoTime() - begin;
+        visited++;
+        callbackNanos += nanos;
+        listener.callback(method, nanos);
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.quicksilver0218.listutil;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Converts elements of a <b>MappedList</b> or <b>OffHeapList</b> to and from fixed-width records.
+ * Implementations use absolute <b>ByteBuffer</b> access and must not change the position or limit of the buffer.
+ */
+public interface RecordCodec<T> {
+    /**
+     * @return The number of bytes of every record.
+     */
+    int width();
+
+    /**
+     * @param buffer Buffer holding the record.
+     * @param offset Offset of the record in <b>buffer</b>.
+     * @return The element stored in the record.
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * @param buffer Buffer holding the record.
+     * @param offset Offset of the record in <b>buffer</b>.
+     * @param element The element to store. <b>null</b> is not supported by the built-in codecs.
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * 8-byte big-endian <b>long</b> records.
+     */
+    RecordCodec<Long> LONG = new RecordCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+    };
+
+    /**
+     * 4-byte big-endian <b>int</b> records.
+     */
+    RecordCodec<Integer> INT = new RecordCodec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+    };
+
+    /**
+     * 8-byte big-endian <b>double</b> records.
+     */
+    RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+    };
+
+    /**
+     * Creates a codec of raw byte records. Every element read is a new array.
+     * @param width The length of every record.
+     * @return A codec accepting arrays of exactly <b>width</b> bytes.
+     */
+    static RecordCodec<byte[]> bytes(int width) {
+        if (width <= 0)
+            throw new IllegalArgumentException("width must be positive: " + width);
+        return new RecordCodec<byte[]>() {
+            @Override
+            public int width() {
+                return width;
+            }
+
+            @Override
+            public byte[] read(ByteBuffer buffer, int offset) {
+                byte[] element = new byte[width];
+                for (int i = 0; i < width; i++)
+                    element[i] = buffer.get(offset + i);
+                return element;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, byte[] element) {
+                if (Objects.requireNonNull(element).length != width)
+                    throw new IllegalArgumentException("Record length " + element.length + " is not " + width);
+                for (int i = 0; i < width; i++)
+                    buffer.put(offset + i, element[i]);
+            }
+        };
+    }
+}
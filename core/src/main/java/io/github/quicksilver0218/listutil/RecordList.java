@@ -0,0 +1,255 @@
+package io.github.quicksilver0218.listutil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Base of the lists of fixed-width records kept outside the heap, in buffers of up to 1 GiB each.
+ * Besides the <b>List</b> methods it provides bulk operations on raw bytes, which <b>ListUtil</b> uses instead of per-element <b>get</b> and <b>set</b>.
+ */
+abstract class RecordList<T> extends AbstractList<T> implements RandomAccess {
+    private static final int CHUNK_SIZE = 1 << 30;
+    private static final int COPY_SIZE = 1 << 16;
+    static final int MIN_CAPACITY = 16;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    final RecordCodec<T> codec;
+    final int width;
+    final int chunkRecords;
+    // Records are kept in chunks of chunkRecords records, since a single buffer is limited to 2 GB.
+    ByteBuffer[] chunks = new ByteBuffer[0];
+    long capacity;
+    int size;
+
+    RecordList(RecordCodec<T> codec) {
+        this.codec = Objects.requireNonNull(codec);
+        this.width = codec.width();
+        if (width <= 0 || width > CHUNK_SIZE)
+            throw new IllegalArgumentException("Unsupported record width: " + width);
+        this.chunkRecords = CHUNK_SIZE / width;
+    }
+
+    /**
+     * Provides the buffer of chunk <b>index</b> holding <b>records</b> records.
+     * @param previous The current buffer of the chunk if it is being grown, otherwise <b>null</b>.
+     */
+    abstract ByteBuffer chunk(int index, long records, ByteBuffer previous);
+
+    /**
+     * Called after the size has changed.
+     */
+    void resized() {
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return codec.read(chunks[index / chunkRecords], index % chunkRecords * width);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T old = get(index);
+        write(index, element);
+        return old;
+    }
+
+    @Override
+    public boolean add(T element) {
+        ensureCapacity(size + 1L);
+        write(size, element);
+        resize(size + 1);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1L);
+        move(index, index + 1, size - index);
+        write(index, element);
+        resize(size + 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        T old = get(index);
+        removeRange(index, index + 1);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        resize(0);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0)
+            return;
+        move(toIndex, fromIndex, size - toIndex);
+        resize(size - count);
+    }
+
+    /**
+     * Sets the records from <b>fromIndex</b> to <b>toIndex</b> to <b>element</b>, encoding it only once.
+     */
+    void fill(int fromIndex, int toIndex, T element) {
+        if (fromIndex >= toIndex)
+            return;
+        write(fromIndex, element);
+        byte[] record = new byte[width];
+        read(fromIndex, 1, record, 0);
+        int step = Math.max(1, Math.min(COPY_SIZE / width, toIndex - fromIndex));
+        byte[] block = new byte[step * width];
+        for (int i = 0; i < step; i++)
+            System.arraycopy(record, 0, block, i * width, width);
+        for (int i = fromIndex + 1; i < toIndex; i += step)
+            write(i, Math.min(step, toIndex - i), block);
+    }
+
+    /**
+     * Copies <b>count</b> records from index <b>from</b> to index <b>to</b>, correctly for overlapping ranges.
+     */
+    void move(int from, int to, int count) {
+        if (count <= 0 || from == to)
+            return;
+        int step = Math.max(1, Math.min(COPY_SIZE / width, count));
+        byte[] block = new byte[step * width];
+        if (to < from)
+            for (int done = 0; done < count; done += step) {
+                int n = Math.min(step, count - done);
+                read(from + done, n, block, 0);
+                write(to + done, n, block);
+            }
+        else
+            for (int done = count; done > 0; ) {
+                int n = Math.min(step, done);
+                done -= n;
+                read(from + done, n, block, 0);
+                write(to + done, n, block);
+            }
+    }
+
+    /**
+     * Reverses the records from <b>fromIndex</b> to <b>toIndex</b> by swapping raw bytes.
+     */
+    void reverse(int fromIndex, int toIndex) {
+        int step = Math.max(1, Math.min(COPY_SIZE / width, (toIndex - fromIndex) / 2));
+        byte[] left = new byte[step * width];
+        byte[] right = new byte[step * width];
+        byte[] reversed = new byte[step * width];
+        for (int i = fromIndex, j = toIndex; j - i > 1; ) {
+            int n = Math.min(step, (j - i) / 2);
+            j -= n;
+            read(i, n, left, 0);
+            read(j, n, right, 0);
+            write(i, n, reverse(right, n, reversed));
+            write(j, n, reverse(left, n, reversed));
+            i += n;
+        }
+    }
+
+    private byte[] reverse(byte[] block, int count, byte[] target) {
+        for (int i = 0, j = (count - 1) * width; j >= 0; i += width, j -= width) {
+            int k = 0;
+            for (; k + Long.BYTES <= width; k += Long.BYTES)
+                LONGS.set(target, i + k, (long) LONGS.get(block, j + k));
+            for (; k < width; k++)
+                target[i + k] = block[j + k];
+        }
+        return target;
+    }
+
+    /**
+     * Appends all the records of <b>source</b>, which uses the same codec.
+     */
+    void append(RecordList<? extends T> source) {
+        int count = source.size;
+        ensureCapacity((long) size + count);
+        int step = Math.max(1, Math.min(COPY_SIZE / width, count));
+        byte[] block = new byte[step * width];
+        for (int done = 0; done < count; done += step) {
+            int n = Math.min(step, count - done);
+            source.read(done, n, block, 0);
+            write(size + done, n, block);
+        }
+        resize(size + count);
+    }
+
+    /**
+     * Copies the bytes of <b>count</b> records starting at <b>index</b> into <b>target</b>.
+     */
+    void read(int index, int count, byte[] target, int offset) {
+        while (count > 0) {
+            int chunk = index / chunkRecords;
+            int record = index % chunkRecords;
+            int n = Math.min(count, chunkRecords - record);
+            ByteBuffer buffer = chunks[chunk].duplicate();
+            buffer.position(record * width);
+            buffer.get(target, offset, n * width);
+            index += n;
+            offset += n * width;
+            count -= n;
+        }
+    }
+
+    private void write(int index, int count, byte[] source) {
+        int offset = 0;
+        while (count > 0) {
+            int chunk = index / chunkRecords;
+            int record = index % chunkRecords;
+            int n = Math.min(count, chunkRecords - record);
+            ByteBuffer buffer = chunks[chunk].duplicate();
+            buffer.position(record * width);
+            buffer.put(source, offset, n * width);
+            index += n;
+            offset += n * width;
+            count -= n;
+        }
+    }
+
+    private void write(int index, T element) {
+        codec.write(chunks[index / chunkRecords], index % chunkRecords * width, element);
+    }
+
+    private void resize(int newSize) {
+        size = newSize;
+        modCount++;
+        resized();
+    }
+
+    void ensureCapacity(long required) {
+        if (required > Integer.MAX_VALUE)
+            throw new IllegalStateException("List size limit reached");
+        if (required > capacity)
+            allocate(Math.max(required, capacity + (capacity >> 1)));
+    }
+
+    /**
+     * Provides buffers for records up to <b>newCapacity</b>. Only the last, partially filled chunk and new chunks are replaced.
+     */
+    void allocate(long newCapacity) {
+        int count = (int) ((newCapacity + chunkRecords - 1) / chunkRecords);
+        int first = Math.max(chunks.length - 1, 0);
+        ByteBuffer[] grown = Arrays.copyOf(chunks, count);
+        for (int i = first; i < count; i++) {
+            long start = (long) i * chunkRecords;
+            grown[i] = chunk(i, Math.min(chunkRecords, newCapacity - start), i < chunks.length ? chunks[i] : null);
+        }
+        chunks = grown;
+        capacity = newCapacity;
+    }
+}
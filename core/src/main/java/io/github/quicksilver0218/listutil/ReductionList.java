@@ -0,0 +1,392 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A view of a list with a segment tree of partial reductions, created by <b>ListUtil.reduction(list, operator, identity)</b>.
+ * <b>reduce(start, end)</b> and <b>reduceRight(start, end)</b> are answered in O(log n) instead of by a pass over the range.
+ * <p>
+ * Changes made through this view, including those made by the <b>ListUtil</b> mutators, keep the tree up to date: <b>set</b> and changes at either end of the list (<b>push</b>, <b>pop</b>, <b>shift</b>, <b>unshift</b>, <b>fill</b>, <b>splice</b> of the head or tail) are applied to it directly, other insertions and removals mark it for a rebuild on the next reduction.
+ * Changes made directly to the underlying list are only detected when they change its size; call <b>reindex()</b> after any other such change.
+ */
+public class ReductionList<T> extends AbstractList<T> {
+    private final List<T> list;
+    private final BinaryOperator<T> operator;
+    private final T identity;
+    /*
+     * The leaves are a ring of capacity slots, so that elements can be added and removed at both ends in place. Slots outside the list hold identity.
+     * Node i has children 2i and 2i + 1, and leaf slot s is node capacity + s. forward holds the reduction of each node from left to right.
+     * backward holds it from right to left, which differs for an operator that is not commutative; it is built on the first reduceRight call.
+     */
+    private Object[] forward;
+    private Object[] backward;
+    private int capacity;
+    private int head;
+    private boolean stale = true;
+    private int indexedSize;
+
+    ReductionList(List<T> list, BinaryOperator<T> operator, T identity) {
+        this.list = list;
+        this.operator = operator;
+        this.identity = identity;
+    }
+
+    static <T> ReductionList<T> of(List<T> list, BinaryOperator<T> operator, T identity) {
+        return list instanceof RandomAccess ? new RandomAccessReductionList<>(list, operator, identity) : new ReductionList<>(list, operator, identity);
+    }
+
+    /**
+     * Rebuilds the tree from the underlying list on the next reduction.
+     */
+    public void reindex() {
+        stale = true;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public T get(int index) {
+        Probe.checkAccess("ReductionList.get", list);
+        return list.get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T old = list.set(index, element);
+        if (isCurrent())
+            update(index, element);
+        return old;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        addAll(index, Collections.singletonList(element));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        Object[] elements = c.toArray();
+        int size = list.size();
+        boolean current = isCurrent() && size + elements.length <= capacity;
+        if (!list.addAll(index, c))
+            return false;
+        if (current && index == size) {
+            for (int i = 0; i < elements.length; i++)
+                put(size + i, elements[i]);
+            pull(size, elements.length);
+            indexedSize += elements.length;
+        } else if (current && index == 0) {
+            head = (head - elements.length) & (capacity - 1);
+            for (int i = 0; i < elements.length; i++)
+                put(i, elements[i]);
+            pull(0, elements.length);
+            indexedSize += elements.length;
+        } else
+            stale = true;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public T remove(int index) {
+        boolean current = isCurrent();
+        T old = list.remove(index);
+        if (current)
+            detach(index, index + 1);
+        else
+            stale = true;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        stale = true;
+        modCount++;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        boolean current = isCurrent();
+        list.subList(fromIndex, toIndex).clear();
+        if (current)
+            detach(fromIndex, toIndex);
+        else
+            stale = true;
+        modCount++;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> function) {
+        list.replaceAll(function);
+        stale = true;
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        list.sort(c);
+        stale = true;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        ListIterator<T> iterator = list.listIterator(index);
+        return new ListIterator<T>() {
+            private int lastIndex = -1;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                lastIndex = iterator.nextIndex();
+                return iterator.next();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T previous() {
+                lastIndex = iterator.previousIndex();
+                return iterator.previous();
+            }
+
+            @Override
+            public int nextIndex() {
+                return iterator.nextIndex();
+            }
+
+            @Override
+            public int previousIndex() {
+                return iterator.previousIndex();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                stale = true;
+                modCount++;
+            }
+
+            @Override
+            public void set(T element) {
+                iterator.set(element);
+                if (isCurrent())
+                    update(lastIndex, element);
+            }
+
+            @Override
+            public void add(T element) {
+                iterator.add(element);
+                stale = true;
+                modCount++;
+            }
+        };
+    }
+
+    /**
+     * @return The reduction of the whole list from left to right, or <b>identity</b> if it is empty.
+     */
+    public T reduce() {
+        return reduce(0, list.size());
+    }
+
+    /**
+     * @param start Start index. If start is negative, it is treated as <b>size() + start</b>.
+     * @param end End index, not included. If end is negative, it is treated as <b>size() + end</b>.
+     * @return The reduction of the elements from <b>start</b> to <b>end</b> from left to right, i.e. <b>operator</b> applied to <b>identity</b> and each element in turn; <b>identity</b> if the range is empty.
+     */
+    public T reduce(int start, int end) {
+        if (!isCurrent())
+            rebuild();
+        int size = list.size();
+        if (start < 0) {
+            start += size;
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += size;
+        else if (end > size)
+            end = size;
+        if (end <= start)
+            return identity;
+        int from = slot(start), to = from + end - start;
+        if (to <= capacity)
+            return query(from, to);
+        return operator.apply(query(from, capacity), query(0, to - capacity));
+    }
+
+    /**
+     * @return The reduction of the whole list from right to left, or <b>identity</b> if it is empty.
+     */
+    public T reduceRight() {
+        return reduceRight(0, list.size());
+    }
+
+    /**
+     * @param start Start index. If start is negative, it is treated as <b>size() + start</b>.
+     * @param end End index, not included. If end is negative, it is treated as <b>size() + end</b>.
+     * @return The reduction of the elements from <b>start</b> to <b>end</b> from right to left, i.e. <b>operator</b> applied to <b>identity</b> and each element in turn, starting from the last; <b>identity</b> if the range is empty.
+     */
+    public T reduceRight(int start, int end) {
+        if (!isCurrent())
+            rebuild();
+        if (backward == null) {
+            backward = new Object[capacity * 2];
+            System.arraycopy(forward, capacity, backward, capacity, capacity);
+            build(backward, 1, capacity);
+        }
+        int size = list.size();
+        if (start < 0) {
+            start += size;
+            if (start < 0)
+                start = 0;
+        }
+        if (end < 0)
+            end += size;
+        else if (end > size)
+            end = size;
+        if (end <= start)
+            return identity;
+        int from = slot(start), to = from + end - start;
+        if (to <= capacity)
+            return queryRight(from, to);
+        return operator.apply(queryRight(0, to - capacity), queryRight(from, capacity));
+    }
+
+    private boolean isCurrent() {
+        return !stale && indexedSize == list.size();
+    }
+
+    private int slot(int index) {
+        return (head + index) & (capacity - 1);
+    }
+
+    private void rebuild() {
+        int size = list.size();
+        capacity = Integer.highestOneBit(size + (size >> 1) + 1) << 1;
+        forward = new Object[capacity * 2];
+        Arrays.fill(forward, capacity, forward.length, identity);
+        int i = capacity;
+        for (T element : list)
+            forward[i++] = element;
+        build(forward, 1, capacity);
+        if (backward != null) {
+            backward = new Object[capacity * 2];
+            System.arraycopy(forward, capacity, backward, capacity, capacity);
+            build(backward, 1, capacity);
+        }
+        head = 0;
+        indexedSize = size;
+        stale = false;
+    }
+
+    /**
+     * Recomputes the nodes from <b>from</b> to <b>to</b> of <b>tree</b>, and their ancestors.
+     */
+    @SuppressWarnings("unchecked")
+    private void build(Object[] tree, int from, int to) {
+        boolean right = tree == backward;
+        for (; from > 0 && to > from; from >>= 1, to = (to + 1) >> 1)
+            for (int i = to - 1; i >= from; i--)
+                tree[i] = right ? operator.apply((T) tree[2 * i + 1], (T) tree[2 * i]) : operator.apply((T) tree[2 * i], (T) tree[2 * i + 1]);
+    }
+
+    /**
+     * Removes the elements from index <b>from</b> to <b>to</b>, which had been removed from the list, if they were at either end. Otherwise marks the tree for a rebuild.
+     */
+    private void detach(int from, int to) {
+        int count = to - from;
+        if (to == indexedSize) {
+            for (int i = from; i < to; i++)
+                put(i, identity);
+            pull(from, count);
+        } else if (from == 0) {
+            for (int i = 0; i < count; i++)
+                put(i, identity);
+            pull(0, count);
+            head = slot(count);
+        } else {
+            stale = true;
+            return;
+        }
+        indexedSize -= count;
+    }
+
+    private void update(int index, Object element) {
+        put(index, element);
+        pull(index, 1);
+    }
+
+    private void put(int index, Object element) {
+        int node = capacity + slot(index);
+        forward[node] = element;
+        if (backward != null)
+            backward[node] = element;
+    }
+
+    /**
+     * Recomputes the ancestors of the leaves of the elements from index <b>index</b>, <b>count</b> of them.
+     */
+    private void pull(int index, int count) {
+        int from = slot(index), to = Math.min(from + count, capacity);
+        pullSlots(from, to);
+        if (to - from < count)
+            pullSlots(0, count - (to - from));
+    }
+
+    private void pullSlots(int from, int to) {
+        int first = (capacity + from) >> 1, last = (capacity + to + 1) >> 1;
+        build(forward, first, last);
+        if (backward != null)
+            build(backward, first, last);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T query(int from, int to) {
+        T left = identity, right = identity;
+        for (from += capacity, to += capacity; from < to; from >>= 1, to >>= 1) {
+            if ((from & 1) == 1)
+                left = operator.apply(left, (T) forward[from++]);
+            if ((to & 1) == 1)
+                right = operator.apply((T) forward[--to], right);
+        }
+        return operator.apply(left, right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T queryRight(int from, int to) {
+        T high = identity, low = identity;
+        for (from += capacity, to += capacity; from < to; from >>= 1, to >>= 1) {
+            if ((from & 1) == 1)
+                low = operator.apply((T) backward[from++], low);
+            if ((to & 1) == 1)
+                high = operator.apply(high, (T) backward[--to]);
+        }
+        return operator.apply(high, low);
+    }
+
+    private static final class RandomAccessReductionList<T> extends ReductionList<T> implements RandomAccess {
+        RandomAccessReductionList(List<T> list, BinaryOperator<T> operator, T identity) {
+            super(list, operator, identity);
+        }
+    }
+}
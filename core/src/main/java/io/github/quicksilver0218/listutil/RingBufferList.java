@@ -0,0 +1,265 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.*;
+
+/**
+ * A list backed by a circular array.
+ * <b>get</b> and <b>set</b> are O(1), and insertion and removal at either end are amortized O(1), which suits <b>push</b>, <b>pop</b>, <b>shift</b> and <b>unshift</b> work queues.
+ * Insertion and removal elsewhere, including <b>splice()</b>, move whichever side of the position is shorter.
+ */
+public class RingBufferList<T> extends AbstractList<T> implements RandomAccess {
+    private static final int MIN_CAPACITY = 16;
+
+    // The length is always a power of two so that slots can be computed with a mask.
+    private Object[] buffer;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public RingBufferList() {
+        buffer = new Object[MIN_CAPACITY];
+    }
+
+    /**
+     * Creates an empty list able to hold <b>initialCapacity</b> elements without growing.
+     * @param initialCapacity The initial capacity of the list.
+     * @throws IllegalArgumentException If <b>initialCapacity</b> is negative.
+     */
+    public RingBufferList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        buffer = new Object[capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Creates a list containing the elements of a collection, in the order they are returned by its iterator.
+     * @param collection The collection whose elements are to be placed into the list.
+     */
+    public RingBufferList(Collection<? extends T> collection) {
+        Object[] elements = collection.toArray();
+        buffer = Arrays.copyOf(elements, capacityFor(elements.length), Object[].class);
+        size = elements.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) buffer[slot(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        int slot = slot(index);
+        T old = (T) buffer[slot];
+        buffer[slot] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(T element) {
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Inserts an element at the front of the list.
+     * @param element Element to be inserted.
+     */
+    public void addFirst(T element) {
+        ensureCapacity(size + 1);
+        head = slot(-1);
+        buffer[head] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends an element to the end of the list.
+     * @param element Element to be appended.
+     */
+    public void addLast(T element) {
+        ensureCapacity(size + 1);
+        buffer[slot(size)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        if (index < size / 2) {
+            move(0, -1, index);
+            head = slot(-1);
+        } else
+            move(index, index + 1, size - index);
+        buffer[slot(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        return addAll(size, collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        Objects.checkIndex(index, size + 1);
+        Object[] elements = collection.toArray();
+        int count = elements.length;
+        if (count == 0)
+            return false;
+        ensureCapacity(size + count);
+        if (index < size / 2) {
+            move(0, -count, index);
+            head = slot(-count);
+        } else
+            move(index, index + count, size - index);
+        for (int i = 0; i < count; i++)
+            buffer[slot(index + i)] = elements[i];
+        size += count;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the first element of the list.
+     * @return The removed element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        T old = (T) buffer[head];
+        buffer[head] = null;
+        head = slot(1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Removes the last element of the list.
+     * @return The removed element.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        int slot = slot(size - 1);
+        T old = (T) buffer[slot];
+        buffer[slot] = null;
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public T remove(int index) {
+        T old = get(index);
+        removeRange(index, index + 1);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    /**
+     * Removes the range by moving the shorter side over it, which is what <b>subList(fromIndex, toIndex).clear()</b> ends up calling.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0)
+            return;
+        if (fromIndex < size - toIndex) {
+            move(0, count, fromIndex);
+            clearSlots(0, count);
+            head = slot(count);
+        } else {
+            move(toIndex, fromIndex, size - toIndex);
+            clearSlots(size - count, count);
+        }
+        size -= count;
+        modCount++;
+    }
+
+    /**
+     * Reverses the list in place.
+     */
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int left = slot(i);
+            int right = slot(j);
+            Object temp = buffer[left];
+            buffer[left] = buffer[right];
+            buffer[right] = temp;
+        }
+    }
+
+    /**
+     * Sets the elements from index <b>from</b> to <b>to</b> to <b>element</b>.
+     */
+    void fill(int from, int to, T element) {
+        int first = slot(from);
+        int end = Math.min(first + to - from, buffer.length);
+        Arrays.fill(buffer, first, end, element);
+        Arrays.fill(buffer, 0, to - from - (end - first), element);
+    }
+
+    private int slot(int index) {
+        return (head + index) & (buffer.length - 1);
+    }
+
+    /**
+     * Copies <b>count</b> elements from index <b>from</b> to index <b>to</b>. Indices are relative to <b>head</b> and may be negative.
+     */
+    void move(int from, int to, int count) {
+        if (to < from)
+            for (int i = 0; i < count; i++)
+                buffer[slot(to + i)] = buffer[slot(from + i)];
+        else
+            for (int i = count - 1; i >= 0; i--)
+                buffer[slot(to + i)] = buffer[slot(from + i)];
+    }
+
+    private void clearSlots(int from, int count) {
+        for (int i = 0; i < count; i++)
+            buffer[slot(from + i)] = null;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= buffer.length)
+            return;
+        Object[] grown = new Object[capacityFor(required)];
+        int first = Math.min(size, buffer.length - head);
+        System.arraycopy(buffer, head, grown, 0, first);
+        System.arraycopy(buffer, 0, grown, first, size - first);
+        buffer = grown;
+        head = 0;
+    }
+
+    private static int capacityFor(int required) {
+        if (required <= MIN_CAPACITY)
+            return MIN_CAPACITY;
+        int capacity = Integer.highestOneBit(required - 1) << 1;
+        if (capacity <= 0)
+            throw new OutOfMemoryError("Required capacity is too large: " + required);
+        return capacity;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.Comparator;
+
+/**
+ * The least elements offered to it, up to <b>capacity</b> of them, behind <b>topK</b> and <b>sortSlice</b>.
+ * The elements are kept in a max-heap together with their indices in the list, and ties are broken by index, so that the selection is stable.
+ * Offering n elements takes O(n log capacity), and only one comparison for an element that is not kept.
+ */
+final class Selection<T> {
+    private final Comparator<? super T> comparator;
+    private final int capacity;
+    final Object[] elements;
+    final int[] indices;
+    int size;
+
+    Selection(Comparator<? super T> comparator, int capacity) {
+        this.comparator = comparator;
+        this.capacity = capacity;
+        elements = new Object[capacity];
+        indices = new int[capacity];
+    }
+
+    void offer(T element, int index) {
+        if (size < capacity) {
+            elements[size] = element;
+            indices[size] = index;
+            siftUp(size++);
+        } else if (size > 0 && less(element, index, 0)) {
+            elements[0] = element;
+            indices[0] = index;
+            siftDown(0, size);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void offerAll(Selection<? extends T> other) {
+        for (int i = 0; i < other.size; i++)
+            offer((T) other.elements[i], other.indices[i]);
+    }
+
+    /**
+     * Orders the kept elements ascending. No more elements may be offered afterwards.
+     */
+    void sort() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!less(elements[parent], indices[parent], slot))
+                return;
+            swap(parent, slot);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot, int end) {
+        for (int child = 2 * slot + 1; child < end; slot = child, child = 2 * slot + 1) {
+            if (child + 1 < end && less(elements[child], indices[child], child + 1))
+                child++;
+            if (!less(elements[slot], indices[slot], child))
+                return;
+            swap(slot, child);
+        }
+    }
+
+    /**
+     * Returns whether <b>element</b> at <b>index</b> comes before the element in heap slot <b>slot</b>.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean less(Object element, int index, int slot) {
+        int c = comparator.compare((T) element, (T) elements[slot]);
+        return c < 0 || c == 0 && index < indices[slot];
+    }
+
+    private void swap(int i, int j) {
+        Object element = elements[i];
+        elements[i] = elements[j];
+        elements[j] = element;
+        int index = indices[i];
+        indices[i] = indices[j];
+        indices[j] = index;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.quicksilver0218.listutil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Optional specialization of the traversal loops of <b>ListUtil</b>, such as those of <b>filter</b>, <b>map</b> and <b>reduce</b>, by callback class.
+ * All callbacks normally share one copy of the loops, so once a program passes many kinds of callbacks, the call of the callback inside the loop sees them all and the JIT compiler can no longer inline it.
+ * While specialization is enabled, a callback class that has been used <b>HOT_CALLS</b> times gets a copy of the loops of its own, whose call site only ever sees that class.
+ * <p>
+ * The copies are hidden classes defined from the class file of the shared loops, which needs Java 15 or later; on older runtimes, all callbacks keep sharing the loops.
+ * At most <b>MAX_COPIES</b> copies are defined; the callback classes after that keep sharing the loops too.
+ * Specialization is disabled unless the system property <b>io.github.quicksilver0218.listutil.specialize</b> is <b>true</b> or it is enabled with <b>setEnabled(true)</b>.
+ */
+public enum Specialization {;
+    /**
+     * Number of calls with a callback class after which it gets its own copy of the loops.
+     */
+    public static final int HOT_CALLS = 1000;
+    /**
+     * Maximum number of copies of the loops.
+     */
+    public static final int MAX_COPIES = 256;
+
+    private static final Loops SHARED = new TraversalLoops();
+    private static final Method DEFINE_HIDDEN_CLASS = defineHiddenClass();
+    private static final byte[] BYTES = DEFINE_HIDDEN_CLASS == null ? null : bytes();
+    private static final AtomicInteger copies = new AtomicInteger();
+    private static final ClassValue<Slot> SLOTS = new ClassValue<Slot>() {
+        @Override
+        protected Slot computeValue(Class<?> type) {
+            return new Slot();
+        }
+    };
+
+    private static volatile boolean enabled = Boolean.getBoolean("io.github.quicksilver0218.listutil.specialize");
+
+    /**
+     * Enables or disables specialization. Copies already defined are kept, and used again once it is enabled.
+     * @param enabled <b>true</b> to specialize the loops of hot callback classes.
+     */
+    public static void setEnabled(boolean enabled) {
+        Specialization.enabled = enabled;
+    }
+
+    /**
+     * @return <b>true</b> if specialization is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return <b>true</b> if the runtime can define copies of the loops. If not, enabling specialization has no effect.
+     */
+    public static boolean isSupported() {
+        return BYTES != null;
+    }
+
+    /**
+     * Returns the loops to run <b>callback</b> from.
+     */
+    static Loops loops(Object callback) {
+        if (!enabled || BYTES == null)
+            return SHARED;
+        return SLOTS.get(callback.getClass()).loops();
+    }
+
+    /**
+     * The calls with a callback class, and its copy of the loops once it has one.
+     * The counter is not synchronized, since a few lost counts only delay the copy.
+     */
+    private static final class Slot {
+        private int calls;
+        private volatile Loops loops;
+
+        Loops loops() {
+            Loops loops = this.loops;
+            if (loops != null)
+                return loops;
+            if (calls < HOT_CALLS) {
+                calls++;
+                return SHARED;
+            }
+            synchronized (this) {
+                if (this.loops == null)
+                    this.loops = copies.getAndIncrement() < MAX_COPIES ? copy() : SHARED;
+                return this.loops;
+            }
+        }
+    }
+
+    /**
+     * Defines a new copy of <b>TraversalLoops</b>, or returns the shared one if it fails.
+     */
+    private static Loops copy() {
+        try {
+            MethodHandles.Lookup lookup = (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(MethodHandles.lookup(), BYTES, true, Array.newInstance(DEFINE_HIDDEN_CLASS.getParameterTypes()[2].getComponentType(), 0));
+            return (Loops) lookup.lookupClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return SHARED;
+        }
+    }
+
+    private static Method defineHiddenClass() {
+        try {
+            Class<?> option = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            return MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, Array.newInstance(option, 0).getClass());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static byte[] bytes() {
+        try (InputStream in = TraversalLoops.class.getResourceAsStream("TraversalLoops.class")) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
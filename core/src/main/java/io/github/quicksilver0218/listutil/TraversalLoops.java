@@ -0,0 +1,316 @@
+package io.github.quicksilver0218.listutil;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * The loops of the traversal engine. Lists that are <b>Loops.indexed</b> are walked by index, re-reading <b>source.size()</b> on every step so that callbacks may shrink or grow the list as in ECMAScript.
+ * Other lists are walked with a <b>ListIterator</b>, which keeps the traversal linear. If a callback modifies the list structurally, the iterator fails with a <b>ConcurrentModificationException</b> and the loop resumes from a new one at the next index, so that those lists behave as when walked by index, as they were before.
+ * The iterator of a <b>CopyOnWriteArrayList</b> never fails; it keeps walking the snapshot it started with.
+ * <p>
+ * <b>Specialization</b> defines copies of this class from its class file, so it must not refer to any class of its own, such as a lambda or a nested class, nor hold any state.
+ */
+final class TraversalLoops implements Loops {
+    @Override
+    public <T> int scan(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate, boolean expected) {
+        if (Loops.indexed(source)) {
+            for (int i = 0; i < source.size(); i++)
+                if (predicate.test(source.get(i), i, list) == expected)
+                    return i;
+            return -1;
+        }
+        ListIterator<T> iterator = source.listIterator();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            T element;
+            try {
+                element = iterator.next();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index);
+                continue;
+            }
+            if (predicate.test(element, index, list) == expected)
+                return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public <T> int scanRight(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate) {
+        if (Loops.indexed(source)) {
+            for (int i = source.size() - 1; i >= 0; i--)
+                if (i < source.size() && predicate.test(source.get(i), i, list))
+                    return i;
+            return -1;
+        }
+        ListIterator<T> iterator = Loops.end(source);
+        while (iterator.hasPrevious()) {
+            int index = iterator.previousIndex();
+            T element;
+            try {
+                element = iterator.previous();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index + 1);
+                continue;
+            }
+            if (predicate.test(element, index, list))
+                return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public <T> Object find(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate) {
+        if (Loops.indexed(source)) {
+            for (int i = 0; i < source.size(); i++) {
+                T element = source.get(i);
+                if (predicate.test(element, i, list))
+                    return element;
+            }
+            return NONE;
+        }
+        ListIterator<T> iterator = source.listIterator();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            T element;
+            try {
+                element = iterator.next();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index);
+                continue;
+            }
+            if (predicate.test(element, index, list))
+                return element;
+        }
+        return NONE;
+    }
+
+    @Override
+    public <T> Object findLast(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate) {
+        if (Loops.indexed(source)) {
+            for (int i = source.size() - 1; i >= 0; i--)
+                if (i < source.size()) {
+                    T element = source.get(i);
+                    if (predicate.test(element, i, list))
+                        return element;
+                }
+            return NONE;
+        }
+        ListIterator<T> iterator = Loops.end(source);
+        while (iterator.hasPrevious()) {
+            int index = iterator.previousIndex();
+            T element;
+            try {
+                element = iterator.previous();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index + 1);
+                continue;
+            }
+            if (predicate.test(element, index, list))
+                return element;
+        }
+        return NONE;
+    }
+
+    @Override
+    public <T> void walk(List<T> source, List<T> list, ListUtil.Consumer<? super T> consumer) {
+        if (Loops.indexed(source)) {
+            for (int i = 0; i < source.size(); i++)
+                consumer.accept(source.get(i), i, list);
+            return;
+        }
+        ListIterator<T> iterator = source.listIterator();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            T element;
+            try {
+                element = iterator.next();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index);
+                continue;
+            }
+            consumer.accept(element, index, list);
+        }
+    }
+
+    @Override
+    public <T> ArrayList<T> filter(List<T> source, List<T> list, ListUtil.Predicate<? super T> predicate) {
+        BitSet kept = new BitSet(source.size());
+        int count = 0;
+        if (Loops.indexed(source)) {
+            for (int i = 0; i < source.size(); i++)
+                if (predicate.test(source.get(i), i, list)) {
+                    kept.set(i);
+                    count++;
+                }
+            ArrayList<T> result = new ArrayList<>(count);
+            for (int i = kept.nextSetBit(0); i >= 0 && i < source.size(); i = kept.nextSetBit(i + 1))
+                result.add(source.get(i));
+            return result;
+        }
+        ListIterator<T> iterator = source.listIterator();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            T element;
+            try {
+                element = iterator.next();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index);
+                continue;
+            }
+            if (predicate.test(element, index, list)) {
+                kept.set(index);
+                count++;
+            }
+        }
+        // Read the kept elements back with the same iterator, which walks the same snapshot of a CopyOnWriteArrayList.
+        ArrayList<T> result = new ArrayList<>(count);
+        while (result.size() < count && iterator.hasPrevious()) {
+            int index = iterator.previousIndex();
+            T element;
+            try {
+                element = iterator.previous();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index + 1);
+                continue;
+            }
+            if (kept.get(index))
+                result.add(element);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public <T, R> void map(List<T> source, List<T> list, ListUtil.Mapper<? super T, ? extends R> mapper, List<? super R> result) {
+        int size = source.size();
+        if (Loops.indexed(source)) {
+            for (int i = 0; i < source.size(); i++)
+                result.add(mapper.apply(source.get(i), i, list));
+            for (int i = result.size(); i < size; i++)
+                result.add(null);
+            return;
+        }
+        ListIterator<T> iterator = source.listIterator();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            T element;
+            try {
+                element = iterator.next();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index);
+                continue;
+            }
+            result.add(mapper.apply(element, index, list));
+        }
+        for (int i = result.size(); i < size; i++)
+            result.add(null);
+    }
+
+    @Override
+    public <T, R> R fold(List<T> source, List<T> list, ListUtil.Reducer<? super T, R> reducer, R accumulator) {
+        if (Loops.indexed(source)) {
+            for (int i = 0; i < source.size(); i++)
+                accumulator = reducer.apply(accumulator, source.get(i), i, list);
+            return accumulator;
+        }
+        ListIterator<T> iterator = source.listIterator();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            T element;
+            try {
+                element = iterator.next();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index);
+                continue;
+            }
+            accumulator = reducer.apply(accumulator, element, index, list);
+        }
+        return accumulator;
+    }
+
+    @Override
+    public <T, R> R foldRight(List<T> source, List<T> list, ListUtil.Reducer<? super T, R> reducer, R accumulator) {
+        if (Loops.indexed(source)) {
+            for (int i = source.size() - 1; i >= 0; i--)
+                if (i < source.size())
+                    accumulator = reducer.apply(accumulator, source.get(i), i, list);
+            return accumulator;
+        }
+        ListIterator<T> iterator = Loops.end(source);
+        while (iterator.hasPrevious()) {
+            int index = iterator.previousIndex();
+            T element;
+            try {
+                element = iterator.previous();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index + 1);
+                continue;
+            }
+            accumulator = reducer.apply(accumulator, element, index, list);
+        }
+        return accumulator;
+    }
+
+    @Override
+    public <T> Object reduce(List<T> source, List<T> list, ListUtil.Reducer<? super T, T> reducer) {
+        if (Loops.indexed(source)) {
+            if (source.isEmpty())
+                return NONE;
+            T accumulator = source.get(0);
+            for (int i = 1; i < source.size(); i++)
+                accumulator = reducer.apply(accumulator, source.get(i), i, list);
+            return accumulator;
+        }
+        ListIterator<T> iterator = source.listIterator();
+        if (!iterator.hasNext())
+            return NONE;
+        T accumulator = iterator.next();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            T element;
+            try {
+                element = iterator.next();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index);
+                continue;
+            }
+            accumulator = reducer.apply(accumulator, element, index, list);
+        }
+        return accumulator;
+    }
+
+    @Override
+    public <T> Object reduceRight(List<T> source, List<T> list, ListUtil.Reducer<? super T, T> reducer) {
+        if (Loops.indexed(source)) {
+            int last = source.size() - 1;
+            if (last < 0)
+                return NONE;
+            T accumulator = source.get(last);
+            for (int i = last - 1; i >= 0; i--)
+                if (i < source.size())
+                    accumulator = reducer.apply(accumulator, source.get(i), i, list);
+            return accumulator;
+        }
+        ListIterator<T> iterator = Loops.end(source);
+        if (!iterator.hasPrevious())
+            return NONE;
+        T accumulator = iterator.previous();
+        while (iterator.hasPrevious()) {
+            int index = iterator.previousIndex();
+            T element;
+            try {
+                element = iterator.previous();
+            } catch (ConcurrentModificationException e) {
+                iterator = Loops.resume(source, index + 1);
+                continue;
+            }
+            accumulator = reducer.apply(accumulator, element, index, list);
+        }
+        return accumulator;
+    }
+}